@@ -0,0 +1,182 @@
+package com.inders.dsa.datastructures.binarysearchtree;
+
+import java.util.Iterator;
+
+// Self balancing binary search tree with the same api as BinarySearchTree.
+// Every node stores the height of its subtree and after each add or remove the
+// nodes on the path back to the root are rotated until the heights of their
+// left and right subtrees differ by at most one, which keeps the height below
+// 1.44 * log2(n) so add, remove and contains are O(log(n)) even for sorted input.
+// Every node also stores the size of its subtree, which OrderStatisticTree
+// uses for rank and select queries.
+public class AVLTree<T extends Comparable<T>> implements SearchTree<T> {
+
+    // root node of the tree
+    Node root = null;
+
+    class Node extends BinaryNode<T, Node> {
+        // height of the subtree with this node as root, a leaf has height 1
+        int height = 1;
+
+        // number of nodes in the subtree with this node as root
+        int size = 1;
+
+        Node(T elem) {
+            super(elem);
+        }
+    }
+
+    // return number of nodes in the tree
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    // return if the tree is empty
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    // get height of the tree, O(1)
+    @Override
+    public int height() {
+        return height(root);
+    }
+
+    // Add element to this tree. Return true if the
+    // insertion is successful
+    @Override
+    public boolean add(T elem) {
+        if (contains(elem)) {
+            return false;
+        }
+        root = add(root, elem);
+        return true;
+    }
+
+    // remove elem from the tree and return true if removal is successful
+    @Override
+    public boolean remove(T elem) {
+        if (!contains(elem)) {
+            return false;
+        }
+        root = remove(root, elem);
+        return true;
+    }
+
+    // return true if the element is present in the tree
+    @Override
+    public boolean contains(T elem) {
+        Node node = root;
+        while (node != null) {
+            int cmp = elem.compareTo(node.data);
+            if (cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<T> traverse(TreeTraversalOrder order) {
+        return TreeIterators.traverse(order, root, this::size);
+    }
+
+    // add new node to the subtree with given root, elem must not be in the subtree
+    private Node add(Node node, T elem) {
+        if (node == null) {
+            return new Node(elem);
+        }
+        if (elem.compareTo(node.data) < 0) {
+            node.left = add(node.left, elem);
+        } else {
+            node.right = add(node.right, elem);
+        }
+        return balance(node);
+    }
+
+    // remove elem from subtree with given root, elem must be in the subtree
+    private Node remove(Node node, T elem) {
+        int cmp = elem.compareTo(node.data);
+        if (cmp < 0) {
+            node.left = remove(node.left, elem);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, elem);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // replace the data with the successor and remove the successor from
+            // the right subtree
+            Node min = node.right;
+            while (min.left != null) {
+                min = min.left;
+            }
+            node.data = min.data;
+            node.right = remove(node.right, min.data);
+        }
+        return balance(node);
+    }
+
+    // update the height and size of node and rotate it if its subtrees differ
+    // in height by two, returns the new root of the subtree
+    private Node balance(Node node) {
+        update(node);
+        int bf = balanceFactor(node);
+        if (bf > 1) {
+            // left heavy, a left-right case needs a rotation of the left child first
+            if (balanceFactor(node.left) < 0) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (bf < -1) {
+            // right heavy, a right-left case needs a rotation of the right child first
+            if (balanceFactor(node.right) > 0) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node child = node.right;
+        node.right = child.left;
+        child.left = node;
+        update(node);
+        update(child);
+        return child;
+    }
+
+    private Node rotateRight(Node node) {
+        Node child = node.left;
+        node.left = child.right;
+        child.right = node;
+        update(node);
+        update(child);
+        return child;
+    }
+
+    private void update(Node node) {
+        node.height = Math.max(height(node.left), height(node.right)) + 1;
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private int balanceFactor(Node node) {
+        return height(node.left) - height(node.right);
+    }
+
+    private int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,516 @@
+package com.inders.dsa.datastructures.binarysearchtree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// B+ tree ordered set. Instead of one element per node every node keeps up to
+// maxKeys keys in a sorted array which is binary searched, so a lookup touches
+// log_B(n) nodes instead of log_2(n) and the keys of a node are contiguous in
+// memory. With the default of 32 keys the key array of a node holds 33
+// references, with compressed oops that and the array header fit in three
+// cache lines, and the tree stays 5 levels deep for 50M keys.
+//
+// All elements live in the leaves, the internal nodes only hold separator keys
+// to route searches: child i of an internal node holds the keys k with
+// keys[i - 1] <= k < keys[i]. The leaves are linked from left to right, so an in
+// order traversal or a range scan just follows the leaf links. Every node except
+// the root has at least maxKeys / 2 keys.
+//
+// It has the same add, remove, contains and traverse(IN_ORDER) as the
+// SearchTree implementations but is not one of them: the elements only live in
+// the leaves, so there are no pre, post or level order traversals and
+// traverse rejects those orders with an IllegalArgumentException.
+@SuppressWarnings("unchecked")
+public final class BPlusTree<T extends Comparable<T>> implements Iterable<T> {
+
+    private static final int DEFAULT_MAX_KEYS = 32;
+
+    // max and min number of keys in a node
+    private final int maxKeys;
+    private final int minKeys;
+
+    // number of elements in the tree
+    private int size = 0;
+
+    // root of the tree, a leaf while the tree is small
+    private Node root;
+
+    private abstract static class Node {
+        // sorted keys, one spare slot so that a node can overflow before it splits
+        final Object[] keys;
+
+        // number of keys in use
+        int n;
+
+        Node(int maxKeys) {
+            keys = new Object[maxKeys + 1];
+        }
+    }
+
+    private static final class Leaf extends Node {
+        // next leaf to the right
+        Leaf next;
+
+        Leaf(int maxKeys) {
+            super(maxKeys);
+        }
+    }
+
+    private static final class Internal extends Node {
+        // n + 1 children
+        final Node[] children;
+
+        Internal(int maxKeys) {
+            super(maxKeys);
+            children = new Node[maxKeys + 2];
+        }
+    }
+
+    public BPlusTree() {
+        this(DEFAULT_MAX_KEYS);
+    }
+
+    // create a tree with at most maxKeys keys per node
+    public BPlusTree(int maxKeys) {
+        if (maxKeys < 3) {
+            throw new IllegalArgumentException("Make sure maxKeys >= 3");
+        }
+        this.maxKeys = maxKeys;
+        this.minKeys = maxKeys / 2;
+        root = new Leaf(maxKeys);
+    }
+
+    // build a tree with the default node size from elements in strictly ascending order
+    public static <T extends Comparable<T>> BPlusTree<T> bulkLoad(Iterable<T> sorted) {
+        return bulkLoad(sorted, DEFAULT_MAX_KEYS);
+    }
+
+    // build a tree from elements in strictly ascending order in O(n), filling
+    // the leaves and internal nodes level by level instead of adding one by one
+    public static <T extends Comparable<T>> BPlusTree<T> bulkLoad(Iterable<T> sorted, int maxKeys) {
+        BPlusTree<T> tree = new BPlusTree<>(maxKeys);
+        List<T> elems = new ArrayList<>();
+        for (T elem : sorted) {
+            if (elem == null) {
+                throw new IllegalArgumentException("Elements can not be null");
+            }
+            if (!elems.isEmpty() && elems.get(elems.size() - 1).compareTo(elem) >= 0) {
+                throw new IllegalArgumentException("Elements must be in strictly ascending order");
+            }
+            elems.add(elem);
+        }
+        if (elems.isEmpty()) {
+            return tree;
+        }
+
+        // leaves, the number of keys is spread evenly so that none is under full
+        int count = elems.size();
+        int nodes = (count + maxKeys - 1) / maxKeys;
+        Node[] level = new Node[nodes];
+        Object[] mins = new Object[nodes];
+        Leaf prev = null;
+        for (int i = 0, from = 0; i < nodes; i++) {
+            int to = (int) ((long) count * (i + 1) / nodes);
+            Leaf leaf = new Leaf(maxKeys);
+            for (int k = from; k < to; k++) {
+                leaf.keys[leaf.n++] = elems.get(k);
+            }
+            if (prev != null) {
+                prev.next = leaf;
+            }
+            prev = leaf;
+            level[i] = leaf;
+            mins[i] = leaf.keys[0];
+            from = to;
+        }
+
+        // internal levels, each with up to maxKeys + 1 children
+        while (level.length > 1) {
+            count = level.length;
+            nodes = (count + maxKeys) / (maxKeys + 1);
+            Node[] parents = new Node[nodes];
+            Object[] parentMins = new Object[nodes];
+            for (int i = 0, from = 0; i < nodes; i++) {
+                int to = (int) ((long) count * (i + 1) / nodes);
+                Internal node = new Internal(maxKeys);
+                node.children[0] = level[from];
+                for (int k = from + 1; k < to; k++) {
+                    node.keys[node.n] = mins[k];
+                    node.children[++node.n] = level[k];
+                }
+                parents[i] = node;
+                parentMins[i] = mins[from];
+                from = to;
+            }
+            level = parents;
+            mins = parentMins;
+        }
+
+        tree.root = level[0];
+        tree.size = elems.size();
+        return tree;
+    }
+
+    // return number of elements in the tree
+    public int size() {
+        return size;
+    }
+
+    // return if the tree is empty
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // get height of the tree as the number of levels, O(log(n))
+    public int height() {
+        if (size == 0) {
+            return 0;
+        }
+        int height = 1;
+        for (Node node = root; node instanceof Internal; node = ((Internal) node).children[0]) {
+            height++;
+        }
+        return height;
+    }
+
+    // return true if the element is present in the tree
+    public boolean contains(T elem) {
+        Leaf leaf = findLeaf(elem);
+        int i = lowerBound(leaf, elem);
+        return i < leaf.n && elem.compareTo((T) leaf.keys[i]) == 0;
+    }
+
+    // Add element to this tree. Return true if the
+    // insertion is successful
+    public boolean add(T elem) {
+        if (elem == null) {
+            throw new IllegalArgumentException("Elements can not be null");
+        }
+        int sizeBefore = size;
+        Node sibling = add(root, elem);
+        if (sibling != null) {
+            // the root was split, grow the tree by one level
+            Internal newRoot = new Internal(maxKeys);
+            newRoot.children[0] = root;
+            newRoot.children[1] = sibling;
+            newRoot.keys[0] = minKey(sibling);
+            newRoot.n = 1;
+            root = newRoot;
+        }
+        return size != sizeBefore;
+    }
+
+    // remove elem from the tree and return true if removal is successful
+    public boolean remove(T elem) {
+        int sizeBefore = size;
+        remove(root, elem);
+        if (root instanceof Internal && root.n == 0) {
+            // the root lost its last separator, shrink the tree by one level
+            root = ((Internal) root).children[0];
+        }
+        return size != sizeBefore;
+    }
+
+    // returns an iterator over all the elements in ascending order, the same
+    // as traverse(TreeTraversalOrder.IN_ORDER)
+    @Override
+    public Iterator<T> iterator() {
+        return traverse(TreeTraversalOrder.IN_ORDER);
+    }
+
+    // returns an iterator over all the elements in ascending order following the
+    // leaf links from the leftmost leaf. order must be IN_ORDER, the other orders
+    // throw an IllegalArgumentException
+    public Iterator<T> traverse(TreeTraversalOrder order) {
+        if (order != TreeTraversalOrder.IN_ORDER) {
+            throw new IllegalArgumentException("BPlusTree can only be traversed IN_ORDER, not " + order);
+        }
+        Node node = root;
+        while (node instanceof Internal) {
+            node = ((Internal) node).children[0];
+        }
+        return new LeafIterator((Leaf) node, 0, null);
+    }
+
+    // returns an iterator over the elements in [lo, hi] in ascending order,
+    // following the leaf links from the first element >= lo
+    public Iterator<T> range(T lo, T hi) {
+        Leaf leaf = findLeaf(lo);
+        return new LeafIterator(leaf, lowerBound(leaf, lo), hi);
+    }
+
+    // add elem to the subtree of node, returns the new right sibling if node
+    // had to be split and null otherwise
+    private Node add(Node node, T elem) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int i = lowerBound(leaf, elem);
+            if (i < leaf.n && elem.compareTo((T) leaf.keys[i]) == 0) {
+                // skip insertion if element already exists in the tree
+                return null;
+            }
+            insertAt(leaf.keys, leaf.n++, i, elem);
+            size++;
+            return leaf.n > maxKeys ? splitLeaf(leaf) : null;
+        }
+
+        Internal internal = (Internal) node;
+        int c = childIndex(internal, elem);
+        Node sibling = add(internal.children[c], elem);
+        if (sibling == null) {
+            return null;
+        }
+        insertAt(internal.keys, internal.n, c, minKey(sibling));
+        insertAt(internal.children, internal.n + 1, c + 1, sibling);
+        internal.n++;
+        return internal.n > maxKeys ? splitInternal(internal) : null;
+    }
+
+    // remove elem from the subtree of node, the caller fixes node if it becomes
+    // under full
+    private void remove(Node node, T elem) {
+        if (node instanceof Leaf) {
+            Leaf leaf = (Leaf) node;
+            int i = lowerBound(leaf, elem);
+            if (i < leaf.n && elem.compareTo((T) leaf.keys[i]) == 0) {
+                removeAt(leaf.keys, leaf.n--, i);
+                size--;
+            }
+            return;
+        }
+
+        Internal internal = (Internal) node;
+        int c = childIndex(internal, elem);
+        Node child = internal.children[c];
+        remove(child, elem);
+        if (child.n < minKeys) {
+            rebalance(internal, c);
+        }
+    }
+
+    // fix the under full child c of parent by borrowing a key from a sibling or
+    // by merging it with a sibling
+    private void rebalance(Internal parent, int c) {
+        Node child = parent.children[c];
+        Node left = c > 0 ? parent.children[c - 1] : null;
+        Node right = c < parent.n ? parent.children[c + 1] : null;
+
+        if (left != null && left.n > minKeys) {
+            if (child instanceof Leaf) {
+                // move the last key of the left leaf to the front of child
+                insertAt(child.keys, child.n++, 0, left.keys[--left.n]);
+                left.keys[left.n] = null;
+                parent.keys[c - 1] = child.keys[0];
+            } else {
+                // rotate through the parent: the separator comes down, the last
+                // key of the left node goes up
+                Internal in = (Internal) child, l = (Internal) left;
+                insertAt(in.children, in.n + 1, 0, l.children[l.n]);
+                insertAt(in.keys, in.n++, 0, parent.keys[c - 1]);
+                parent.keys[c - 1] = l.keys[l.n - 1];
+                l.keys[l.n - 1] = null;
+                l.children[l.n--] = null;
+            }
+        } else if (right != null && right.n > minKeys) {
+            if (child instanceof Leaf) {
+                // move the first key of the right leaf to the end of child
+                child.keys[child.n++] = right.keys[0];
+                removeAt(right.keys, right.n--, 0);
+                parent.keys[c] = right.keys[0];
+            } else {
+                Internal in = (Internal) child, r = (Internal) right;
+                in.keys[in.n++] = parent.keys[c];
+                in.children[in.n] = r.children[0];
+                parent.keys[c] = r.keys[0];
+                removeAt(r.keys, r.n, 0);
+                removeAt(r.children, r.n + 1, 0);
+                r.n--;
+            }
+        } else if (left != null) {
+            merge(parent, c - 1);
+        } else {
+            merge(parent, c);
+        }
+    }
+
+    // merge child i + 1 of parent into child i and drop separator i
+    private void merge(Internal parent, int i) {
+        Node left = parent.children[i], right = parent.children[i + 1];
+        if (left instanceof Leaf) {
+            System.arraycopy(right.keys, 0, left.keys, left.n, right.n);
+            left.n += right.n;
+            ((Leaf) left).next = ((Leaf) right).next;
+        } else {
+            Internal l = (Internal) left, r = (Internal) right;
+            l.keys[l.n] = parent.keys[i];
+            System.arraycopy(r.keys, 0, l.keys, l.n + 1, r.n);
+            System.arraycopy(r.children, 0, l.children, l.n + 1, r.n + 1);
+            l.n += r.n + 1;
+        }
+        removeAt(parent.keys, parent.n, i);
+        removeAt(parent.children, parent.n + 1, i + 1);
+        parent.n--;
+    }
+
+    // split an overflowing leaf, the upper half moves into a new right sibling
+    private Leaf splitLeaf(Leaf leaf) {
+        Leaf right = new Leaf(maxKeys);
+        int keep = leaf.n / 2;
+        right.n = leaf.n - keep;
+        System.arraycopy(leaf.keys, keep, right.keys, 0, right.n);
+        Arrays.fill(leaf.keys, keep, leaf.n, null);
+        leaf.n = keep;
+        right.next = leaf.next;
+        leaf.next = right;
+        return right;
+    }
+
+    // split an overflowing internal node, the middle key moves up to the parent
+    // and the keys and children after it move into a new right sibling
+    private Internal splitInternal(Internal node) {
+        Internal right = new Internal(maxKeys);
+        int mid = node.n / 2;
+        right.n = node.n - mid - 1;
+        System.arraycopy(node.keys, mid + 1, right.keys, 0, right.n);
+        System.arraycopy(node.children, mid + 1, right.children, 0, right.n + 1);
+        Arrays.fill(node.keys, mid, node.n, null);
+        Arrays.fill(node.children, mid + 1, node.n + 1, null);
+        node.n = mid;
+        return right;
+    }
+
+    // smallest key in the subtree of node
+    private static Object minKey(Node node) {
+        while (node instanceof Internal) {
+            node = ((Internal) node).children[0];
+        }
+        return node.keys[0];
+    }
+
+    private Leaf findLeaf(T elem) {
+        Node node = root;
+        while (node instanceof Internal) {
+            node = ((Internal) node).children[childIndex((Internal) node, elem)];
+        }
+        return (Leaf) node;
+    }
+
+    // index of the child which can hold elem, the number of separators <= elem
+    private int childIndex(Internal node, T elem) {
+        int lo = 0, hi = node.n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (elem.compareTo((T) node.keys[mid]) >= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // index of the first key >= elem in the leaf
+    private int lowerBound(Leaf leaf, T elem) {
+        int lo = 0, hi = leaf.n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (elem.compareTo((T) leaf.keys[mid]) > 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // insert value at index i of the first n entries of array
+    private static void insertAt(Object[] array, int n, int i, Object value) {
+        System.arraycopy(array, i, array, i + 1, n - i);
+        array[i] = value;
+    }
+
+    // remove index i of the first n entries of array
+    private static void removeAt(Object[] array, int n, int i) {
+        System.arraycopy(array, i + 1, array, i, n - i - 1);
+        array[n - 1] = null;
+    }
+
+    // checks key order, node occupancy, separators and leaf links, used by the tests
+    boolean isValid() {
+        int[] leafDepth = {-1};
+        Leaf[] lastLeaf = {null};
+        if (!isValid(root, null, null, 0, leafDepth, lastLeaf)) {
+            return false;
+        }
+        return lastLeaf[0] == null || lastLeaf[0].next == null;
+    }
+
+    private boolean isValid(Node node, T lo, T hi, int depth, int[] leafDepth, Leaf[] lastLeaf) {
+        if (node != root && node.n < minKeys || node.n > maxKeys) {
+            return false;
+        }
+        for (int i = 0; i < node.n; i++) {
+            T key = (T) node.keys[i];
+            if (i > 0 && ((T) node.keys[i - 1]).compareTo(key) >= 0) return false;
+            if (lo != null && key.compareTo(lo) < 0) return false;
+            if (hi != null && key.compareTo(hi) >= 0) return false;
+        }
+        if (node instanceof Leaf) {
+            if (leafDepth[0] == -1) {
+                leafDepth[0] = depth;
+            }
+            if (lastLeaf[0] != null && lastLeaf[0].next != node) {
+                return false;
+            }
+            lastLeaf[0] = (Leaf) node;
+            return leafDepth[0] == depth;
+        }
+        Internal internal = (Internal) node;
+        for (int i = 0; i <= internal.n; i++) {
+            T childLo = i == 0 ? lo : (T) internal.keys[i - 1];
+            T childHi = i == internal.n ? hi : (T) internal.keys[i];
+            if (!isValid(internal.children[i], childLo, childHi, depth + 1, leafDepth, lastLeaf)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // walks the leaves from a start position, up to and including hi if hi is not null
+    private class LeafIterator implements Iterator<T> {
+        private final int expectedNodeCount = size;
+        private final T hi;
+        private Leaf leaf;
+        private int i;
+
+        LeafIterator(Leaf leaf, int i, T hi) {
+            this.leaf = leaf;
+            this.i = i;
+            this.hi = hi;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (expectedNodeCount != size) {
+                throw new ConcurrentModificationException();
+            }
+            while (leaf != null && i >= leaf.n) {
+                leaf = leaf.next;
+                i = 0;
+            }
+            return leaf != null && (hi == null || ((T) leaf.keys[i]).compareTo(hi) <= 0);
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return (T) leaf.keys[i++];
+        }
+    }
+}
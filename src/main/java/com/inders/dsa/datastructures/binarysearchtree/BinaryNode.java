@@ -0,0 +1,12 @@
+package com.inders.dsa.datastructures.binarysearchtree;
+
+// Node with data and pointers to left and right child, extended by the trees
+// which need extra bookkeeping per node so that they can share TreeIterators
+abstract class BinaryNode<T, N extends BinaryNode<T, N>> {
+    T data;
+    N left, right;
+
+    BinaryNode(T data) {
+        this.data = data;
+    }
+}
@@ -5,7 +5,7 @@ import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Stack;
 
-public final class BinarySearchTree<T extends Comparable<T>> {
+public final class BinarySearchTree<T extends Comparable<T>> implements SearchTree<T> {
 
     // number of nodes in the tree
     private int size = 0;
@@ -26,163 +26,140 @@ public final class BinarySearchTree<T extends Comparable<T>> {
     }
 
     // return number of nodes in the tree
+    @Override
     public int size() {
         return size;
     }
 
     // return if the tree is empty
+    @Override
     public boolean isEmpty() {
         return size == 0;
     }
 
     // Add element to this tree. Return true if the
     // insertion is successful
+    @Override
     public boolean add(T elem) {
-        if (contains(elem)) {
-            // skip insertion and return false if element already exists in the tree
-            return false;
+        if (root == null) {
+            root = new Node(null, null, elem);
+            size++;
+            return true;
+        }
+
+        // walk down to the leaf where elem belongs, without recursion so that
+        // degenerate trees from sorted input can not overflow the stack
+        Node parent = root;
+        while (true) {
+            int cmp = elem.compareTo(parent.data);
+            if (cmp == 0) {
+                // skip insertion and return false if element already exists in the tree
+                return false;
+            }
+            Node next = cmp < 0 ? parent.left : parent.right;
+            if (next == null) {
+                // we have reached the leaf node, create a new node and add it here
+                if (cmp < 0) {
+                    parent.left = new Node(null, null, elem);
+                } else {
+                    parent.right = new Node(null, null, elem);
+                }
+                size++;
+                return true;
+            }
+            parent = next;
         }
-        root = add(root, elem);
-        size++;
-        return true;
     }
 
     // return true if the element is present in the tree
+    @Override
     public boolean contains(T elem) {
-        return contains(root, elem);
-    }
-
-    // remove elem from the tree and return true if removal is successful
-    public boolean remove(T elem) {
-        if (contains(elem)) {
-            root = remove(root, elem);
-            size--;
-            return true;
+        Node node = root;
+        while (node != null) {
+            int cmp = elem.compareTo(node.data);
+            if (cmp == 0) {
+                // return true here we found the elem
+                return true;
+            }
+            // search in left subtree if elem is less than node else in right subtree
+            node = cmp < 0 ? node.left : node.right;
         }
+        // we have reached end of the tree and the elem is not present in the tree
         return false;
     }
 
-    // remove elem from subtree with given root
-    private Node remove(Node root, T elem) {
-        if (root == null) {
-            return null;
-        }
-
-        int cmp = elem.compareTo(root.data);
-
-        if (cmp < 0) {
-            // traverse the left subtree if elem is smaller than root
-            root.left = remove(root.left, elem);
-        } else if (cmp > 0) {
-            // traverse the right subtree if the elem is greater than root
-            root.right = remove(root.right, elem);
-        } else {
-            // found the node to be removed
-
-            if (root.left == null) {
-                // if left subtree is null or both right and left subtrees are null
-                // then simply swap the current node with the right child
-                return root.right;
-            } else if (root.right == null) {
-                // if right subtree is null
-                // then simply swap the current node with the left child
-                return root.left;
-            } else {
-                // here both left and right subtrees are present so either
-                // we have to find the largest node from the left subtree
-                // (which is smaller than all the nodes in right subtree) or
-                // find the smallest from the right subtree (which is largest
-                // than all the nodes in the left subtree)
-
-//                // find max from the left subtree
-//                final Node max = findMax(root.left);
-//                root.data = max.data;
-//                // remove the max node we found from the left subtree
-//                root.left = remove(root.left, max.data);
-
-                // find min from the right subtree
-                final Node min = findMin(root.right);
-                root.data = min.data;
-                // remove the max node we found from the left subtree
-                root.right = remove(root.right, min.data);
+    // remove elem from the tree and return true if removal is successful
+    @Override
+    public boolean remove(T elem) {
+        // find the node to be removed and its parent
+        Node parent = null, node = root;
+        while (node != null) {
+            int cmp = elem.compareTo(node.data);
+            if (cmp == 0) {
+                break;
             }
+            parent = node;
+            node = cmp < 0 ? node.left : node.right;
         }
-        return root;
-    }
-
-    // get height of the tree
-    public int height() {
-        return height(root);
-    }
-
-    // height of subtree with given root
-    private int height(Node root) {
-        if (root == null) {
-            // breaking condition
-            return 0;
-        }
-        // get max of left and right subtree height and add 1 for current level
-        return Math.max(height(root.left), height(root.right)) + 1;
-    }
-
-    // find node with minimum data in this subtree
-    private Node findMin(Node root) {
-        while (root.left != null) {
-            root = root.left;
+        if (node == null) {
+            return false;
         }
-        return root;
-    }
 
-    // find node with maximum data in this subtree
-    private Node findMax(Node root) {
-        while (root.right != null) {
-            root = root.right;
+        if (node.left != null && node.right != null) {
+            // here both left and right subtrees are present so find the smallest
+            // node from the right subtree (which is larger than all the nodes in
+            // the left subtree), copy its data here and remove that node instead
+            Node minParent = node;
+            Node min = node.right;
+            while (min.left != null) {
+                minParent = min;
+                min = min.left;
+            }
+            node.data = min.data;
+            parent = minParent;
+            node = min;
         }
-        return root;
-    }
 
-    // add new node to the subtree with given root
-    private Node add(Node root, T elem) {
-        if (root == null) {
-            // we have reached the leaf node, create a new node and add it here
-            root = new Node(null, null, elem);
+        // node has at most one child now, replace node with that child
+        Node child = node.left != null ? node.left : node.right;
+        if (parent == null) {
+            root = child;
+        } else if (parent.left == node) {
+            parent.left = child;
         } else {
-            if (elem.compareTo(root.data) < 0) {
-                // add element in left subtree if it is smaller than root
-                root.left = add(root.left, elem);
-            } else {
-                // else add into right subtree as element is greater than root
-                // here the assumption is that elem does not preexist in subtree
-                root.right = add(root.right, elem);
-            }
+            parent.right = child;
         }
-        return root;
+        size--;
+        return true;
     }
 
-    // check if elem is present in the subtree with given root
-    private boolean contains(Node root, T elem) {
-        // if root is null that means we have reached end of the tree
-        // and the elem is not present in the tree
-        if (root == null) {
-            return false;
-        }
-
-        int cmp = elem.compareTo(root.data);
-        if (cmp < 0) {
-            // if elem is less than root then search in left subtree
-            return contains(root.left, elem);
+    // get height of the tree, counting the levels with a level order pass
+    @Override
+    public int height() {
+        int height = 0;
+        Queue<Node> level = new LinkedList<>();
+        if (root != null) {
+            level.offer(root);
         }
-        if (cmp > 0) {
-            // if elem is greater than root then search in right subtree
-            return contains(root.right, elem);
+        while (!level.isEmpty()) {
+            height++;
+            for (int i = level.size(); i > 0; i--) {
+                Node node = level.poll();
+                if (node.left != null) {
+                    level.offer(node.left);
+                }
+                if (node.right != null) {
+                    level.offer(node.right);
+                }
+            }
         }
-        // return true here we found the elem
-        return true;
+        return height;
     }
 
     // This method returns an iterator for a given TreeTraversalOrder.
     // The ways in which you can traverse the tree are in four different ways:
     // preorder, inorder, postorder and levelorder.
+    @Override
     public Iterator<T> traverse(TreeTraversalOrder order) {
         switch (order) {
             case PRE_ORDER:
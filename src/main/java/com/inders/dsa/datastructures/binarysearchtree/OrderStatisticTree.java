@@ -0,0 +1,139 @@
+package com.inders.dsa.datastructures.binarysearchtree;
+
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// AVLTree with rank and select queries on top of the SearchTree api, using the
+// subtree sizes AVLTree keeps in its nodes. All the queries below walk a single
+// root to leaf path, so they are O(log(n)).
+public final class OrderStatisticTree<T extends Comparable<T>> extends AVLTree<T> {
+
+    // returns the number of elements strictly smaller than elem, elem does not
+    // need to be in the tree
+    public int rank(T elem) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = elem.compareTo(node.data);
+            if (cmp <= 0) {
+                node = node.left;
+            } else {
+                // node and its whole left subtree are smaller than elem
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    // returns the k-th smallest element, k is 0-based
+    public T select(int k) {
+        if (k < 0 || k >= size()) {
+            throw new IndexOutOfBoundsException("k = " + k + ", size = " + size());
+        }
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (k < leftSize) {
+                node = node.left;
+            } else if (k > leftSize) {
+                k -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.data;
+            }
+        }
+    }
+
+    // returns the number of elements in [lo, hi]
+    public int countInRange(T lo, T hi) {
+        if (lo.compareTo(hi) > 0) {
+            return 0;
+        }
+        return rank(hi) - rank(lo) + (contains(hi) ? 1 : 0);
+    }
+
+    // returns the largest element <= elem, or null if there is none
+    public T floor(T elem) {
+        return search(elem, true, true);
+    }
+
+    // returns the smallest element >= elem, or null if there is none
+    public T ceiling(T elem) {
+        return search(elem, false, true);
+    }
+
+    // returns the largest element < elem, or null if there is none
+    public T lower(T elem) {
+        return search(elem, true, false);
+    }
+
+    // returns the smallest element > elem, or null if there is none
+    public T higher(T elem) {
+        return search(elem, false, false);
+    }
+
+    // returns an iterator over the elements in [lo, hi] in ascending order. The
+    // elements are produced while walking the tree, nothing is copied, so
+    // creating the iterator is O(log(n)) and every next is amortized O(1)
+    public Iterator<T> range(T lo, T hi) {
+        final Deque<Node> stack = new ArrayDeque<>();
+        // push the path to the first element >= lo, only the nodes >= lo are kept
+        Node node = root;
+        while (node != null) {
+            if (node.data.compareTo(lo) >= 0) {
+                stack.push(node);
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+
+        final int expectedNodeCount = size();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                if (expectedNodeCount != size()) {
+                    throw new ConcurrentModificationException();
+                }
+                return !stack.isEmpty() && stack.peek().data.compareTo(hi) <= 0;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Node top = stack.pop();
+                for (Node n = top.right; n != null; n = n.left) {
+                    stack.push(n);
+                }
+                return top.data;
+            }
+        };
+    }
+
+    // find the closest element to elem, below it if below is true and above it
+    // otherwise, including elem itself if inclusive is true
+    private T search(T elem, boolean below, boolean inclusive) {
+        T best = null;
+        Node node = root;
+        while (node != null) {
+            int cmp = node.data.compareTo(elem);
+            if (cmp == 0 && inclusive) {
+                return node.data;
+            }
+            if (below ? cmp < 0 : cmp > 0) {
+                // node is a candidate, look for a closer one on the side of elem
+                best = node.data;
+                node = below ? node.right : node.left;
+            } else {
+                node = below ? node.left : node.right;
+            }
+        }
+        return best;
+    }
+}
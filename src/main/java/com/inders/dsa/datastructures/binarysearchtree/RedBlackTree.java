@@ -0,0 +1,261 @@
+package com.inders.dsa.datastructures.binarysearchtree;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+// Self balancing binary search tree with the same api as BinarySearchTree,
+// implemented as a left leaning red-black tree (Sedgewick). It is the binary
+// form of a 2-3 tree: a red link glues a node to its parent into one 3-node,
+// red links always lean left and no node has two red links. Every path from
+// the root to a null link has the same number of black links, so the height
+// stays below 2 * log2(n) and add, remove and contains are O(log(n)).
+//
+// Compared with AVLTree it rotates less on updates but is less strictly
+// balanced, and it does not store heights so height() walks the tree in O(n).
+public final class RedBlackTree<T extends Comparable<T>> implements SearchTree<T> {
+
+    private static final boolean RED = true;
+    private static final boolean BLACK = false;
+
+    // number of nodes in the tree
+    private int size = 0;
+
+    // root node of the tree
+    private Node root = null;
+
+    private class Node extends BinaryNode<T, Node> {
+        // color of the link from the parent to this node
+        boolean color = RED;
+
+        Node(T elem) {
+            super(elem);
+        }
+    }
+
+    // return number of nodes in the tree
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // return if the tree is empty
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // get height of the tree with a level order pass, O(n)
+    @Override
+    public int height() {
+        int height = 0;
+        Deque<Node> level = new ArrayDeque<>();
+        if (root != null) {
+            level.offer(root);
+        }
+        while (!level.isEmpty()) {
+            height++;
+            for (int i = level.size(); i > 0; i--) {
+                Node node = level.poll();
+                if (node.left != null) level.offer(node.left);
+                if (node.right != null) level.offer(node.right);
+            }
+        }
+        return height;
+    }
+
+    // Add element to this tree. Return true if the
+    // insertion is successful
+    @Override
+    public boolean add(T elem) {
+        if (contains(elem)) {
+            return false;
+        }
+        root = add(root, elem);
+        root.color = BLACK;
+        size++;
+        return true;
+    }
+
+    // remove elem from the tree and return true if removal is successful
+    @Override
+    public boolean remove(T elem) {
+        if (!contains(elem)) {
+            return false;
+        }
+        // temporarily make the root red if both children are black so that the
+        // descent can always borrow from a sibling
+        if (!isRed(root.left) && !isRed(root.right)) {
+            root.color = RED;
+        }
+        root = remove(root, elem);
+        if (root != null) {
+            root.color = BLACK;
+        }
+        size--;
+        return true;
+    }
+
+    // return true if the element is present in the tree
+    @Override
+    public boolean contains(T elem) {
+        Node node = root;
+        while (node != null) {
+            int cmp = elem.compareTo(node.data);
+            if (cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<T> traverse(TreeTraversalOrder order) {
+        return TreeIterators.traverse(order, root, this::size);
+    }
+
+    // add new node to the subtree with given root, elem must not be in the subtree
+    private Node add(Node node, T elem) {
+        if (node == null) {
+            return new Node(elem);
+        }
+        if (elem.compareTo(node.data) < 0) {
+            node.left = add(node.left, elem);
+        } else {
+            node.right = add(node.right, elem);
+        }
+        return fixUp(node);
+    }
+
+    // remove elem from subtree with given root, elem must be in the subtree.
+    // On the way down the current node or its left child is kept red, so the
+    // node which is finally removed is never a lone black node
+    private Node remove(Node node, T elem) {
+        if (elem.compareTo(node.data) < 0) {
+            if (!isRed(node.left) && !isRed(node.left.left)) {
+                node = moveRedLeft(node);
+            }
+            node.left = remove(node.left, elem);
+        } else {
+            if (isRed(node.left)) {
+                node = rotateRight(node);
+            }
+            if (elem.compareTo(node.data) == 0 && node.right == null) {
+                return null;
+            }
+            if (!isRed(node.right) && !isRed(node.right.left)) {
+                node = moveRedRight(node);
+            }
+            if (elem.compareTo(node.data) == 0) {
+                // replace the data with the successor and remove the successor
+                Node min = node.right;
+                while (min.left != null) {
+                    min = min.left;
+                }
+                node.data = min.data;
+                node.right = removeMin(node.right);
+            } else {
+                node.right = remove(node.right, elem);
+            }
+        }
+        return fixUp(node);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) {
+            return null;
+        }
+        if (!isRed(node.left) && !isRed(node.left.left)) {
+            node = moveRedLeft(node);
+        }
+        node.left = removeMin(node.left);
+        return fixUp(node);
+    }
+
+    // restore the left leaning invariants on the way back up
+    private Node fixUp(Node node) {
+        if (isRed(node.right) && !isRed(node.left)) {
+            node = rotateLeft(node);
+        }
+        if (isRed(node.left) && isRed(node.left.left)) {
+            node = rotateRight(node);
+        }
+        if (isRed(node.left) && isRed(node.right)) {
+            flipColors(node);
+        }
+        return node;
+    }
+
+    // make node.left or one of its children red, node is red and both its
+    // children are black
+    private Node moveRedLeft(Node node) {
+        flipColors(node);
+        if (isRed(node.right.left)) {
+            node.right = rotateRight(node.right);
+            node = rotateLeft(node);
+            flipColors(node);
+        }
+        return node;
+    }
+
+    // make node.right or one of its children red, node is red and both its
+    // children are black
+    private Node moveRedRight(Node node) {
+        flipColors(node);
+        if (isRed(node.left.left)) {
+            node = rotateRight(node);
+            flipColors(node);
+        }
+        return node;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node child = node.right;
+        node.right = child.left;
+        child.left = node;
+        child.color = node.color;
+        node.color = RED;
+        return child;
+    }
+
+    private Node rotateRight(Node node) {
+        Node child = node.left;
+        node.left = child.right;
+        child.right = node;
+        child.color = node.color;
+        node.color = RED;
+        return child;
+    }
+
+    private void flipColors(Node node) {
+        node.color = !node.color;
+        node.left.color = !node.left.color;
+        node.right.color = !node.right.color;
+    }
+
+    private boolean isRed(Node node) {
+        return node != null && node.color == RED;
+    }
+
+    // checks the red-black invariants, used by the tests
+    boolean isBalanced() {
+        return blackHeight(root) >= 0 && !isRed(root);
+    }
+
+    // returns the number of black links on every path to a null link, or -1 if
+    // paths differ or a red link leans right or follows another red link
+    private int blackHeight(Node node) {
+        if (node == null) {
+            return 0;
+        }
+        if (isRed(node.right) || (isRed(node) && isRed(node.left))) {
+            return -1;
+        }
+        int left = blackHeight(node.left), right = blackHeight(node.right);
+        if (left < 0 || left != right) {
+            return -1;
+        }
+        return left + (isRed(node) ? 0 : 1);
+    }
+}
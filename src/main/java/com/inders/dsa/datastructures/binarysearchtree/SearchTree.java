@@ -0,0 +1,22 @@
+package com.inders.dsa.datastructures.binarysearchtree;
+
+import java.util.Iterator;
+
+// Common api of the search trees in this package so that callers can switch
+// between the unbalanced and the self balancing implementations.
+public interface SearchTree<T extends Comparable<T>> {
+
+    int size();
+
+    boolean isEmpty();
+
+    boolean add(T elem);
+
+    boolean remove(T elem);
+
+    boolean contains(T elem);
+
+    int height();
+
+    Iterator<T> traverse(TreeTraversalOrder order);
+}
@@ -0,0 +1,167 @@
+package com.inders.dsa.datastructures.binarysearchtree;
+
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntSupplier;
+
+// Lazy preorder, inorder, postorder and levelorder iterators over trees built
+// from BinaryNode. Like the iterators of BinarySearchTree they throw a
+// ConcurrentModificationException once the size of the tree has changed.
+final class TreeIterators {
+
+    private TreeIterators() {
+    }
+
+    static <T, N extends BinaryNode<T, N>> Iterator<T> traverse(TreeTraversalOrder order, N root, IntSupplier size) {
+        switch (order) {
+            case PRE_ORDER:
+                return preOrder(root, size);
+            case IN_ORDER:
+                return inOrder(root, size);
+            case POST_ORDER:
+                return postOrder(root, size);
+            case LEVEL_ORDER:
+                return levelOrder(root, size);
+            default:
+                return null;
+        }
+    }
+
+    private static <T, N extends BinaryNode<T, N>> Iterator<T> preOrder(N root, IntSupplier size) {
+        final Deque<N> stack = new ArrayDeque<>();
+        if (root != null) {
+            stack.push(root);
+        }
+        return new CheckedIterator<T>(size) {
+            @Override
+            boolean hasMore() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            T nextElem() {
+                N top = stack.pop();
+                if (top.right != null) {
+                    stack.push(top.right);
+                }
+                if (top.left != null) {
+                    stack.push(top.left);
+                }
+                return top.data;
+            }
+        };
+    }
+
+    private static <T, N extends BinaryNode<T, N>> Iterator<T> inOrder(N root, IntSupplier size) {
+        final Deque<N> stack = new ArrayDeque<>();
+        pushLeftPath(stack, root);
+        return new CheckedIterator<T>(size) {
+            @Override
+            boolean hasMore() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            T nextElem() {
+                N top = stack.pop();
+                pushLeftPath(stack, top.right);
+                return top.data;
+            }
+        };
+    }
+
+    private static <T, N extends BinaryNode<T, N>> Iterator<T> postOrder(N root, IntSupplier size) {
+        // nodes on the stack with the last visited node, a node is returned once
+        // its right subtree has been visited
+        final Deque<N> stack = new ArrayDeque<>();
+        pushLeftPath(stack, root);
+        return new CheckedIterator<T>(size) {
+            N last = null;
+
+            @Override
+            boolean hasMore() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            T nextElem() {
+                while (true) {
+                    N top = stack.peek();
+                    if (top.right != null && top.right != last) {
+                        pushLeftPath(stack, top.right);
+                    } else {
+                        stack.pop();
+                        last = top;
+                        return top.data;
+                    }
+                }
+            }
+        };
+    }
+
+    private static <T, N extends BinaryNode<T, N>> Iterator<T> levelOrder(N root, IntSupplier size) {
+        final Deque<N> queue = new ArrayDeque<>();
+        if (root != null) {
+            queue.offer(root);
+        }
+        return new CheckedIterator<T>(size) {
+            @Override
+            boolean hasMore() {
+                return !queue.isEmpty();
+            }
+
+            @Override
+            T nextElem() {
+                N front = queue.poll();
+                if (front.left != null) {
+                    queue.offer(front.left);
+                }
+                if (front.right != null) {
+                    queue.offer(front.right);
+                }
+                return front.data;
+            }
+        };
+    }
+
+    private static <N extends BinaryNode<?, N>> void pushLeftPath(Deque<N> stack, N node) {
+        while (node != null) {
+            stack.push(node);
+            node = node.left;
+        }
+    }
+
+    // iterator which fails once the size of the tree changed
+    private abstract static class CheckedIterator<T> implements Iterator<T> {
+        private final IntSupplier size;
+        private final int expectedNodeCount;
+
+        CheckedIterator(IntSupplier size) {
+            this.size = size;
+            this.expectedNodeCount = size.getAsInt();
+        }
+
+        abstract boolean hasMore();
+
+        abstract T nextElem();
+
+        @Override
+        public boolean hasNext() {
+            if (expectedNodeCount != size.getAsInt()) {
+                throw new ConcurrentModificationException();
+            }
+            return hasMore();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return nextElem();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.inders.dsa.datastructures.fenwicktree;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Thread safe version of FenwickTreeRangeQueryPointUpdate for counters which
+// are bumped by many threads. Every tree node is an element of an AtomicLongArray
+// and add does one getAndAdd per node on its path, so add is lock free and
+// never waits for other threads.
+//
+// Consistency model:
+// - The update path of index i and the query path of a prefix [1, r] share at
+//   most one node, so prefixSum sees every add either entirely or not at all,
+//   never half applied.
+// - Every add which completed before a sum started is counted and no add which
+//   started after the sum returned is counted. Adds running concurrently with
+//   the sum may or may not be counted, independently of each other.
+// - sum(left, right) is the difference of two prefix sums, so an add to an index
+//   below left that runs concurrently can be counted by one prefix and not the
+//   other. Exact range sums need the adds to be paused (quiescent), exactly as
+//   the sum of a LongAdder is only exact without concurrent updates.
+public class ConcurrentFenwickTree {
+
+    // Size of the array holding the fenwick tree values
+    final int N;
+
+    // The array containing the fenwick tree ranges
+    private final AtomicLongArray tree;
+
+    // Create an empty fenwick tree with size
+    public ConcurrentFenwickTree(int sz) {
+        // add 1 because fenwick tree has 1-based index
+        tree = new AtomicLongArray(N = sz + 1);
+    }
+
+    // Construct a Fenwick tree with an initial set of values.
+    // The 'values' array MUST BE ONE BASED meaning values[0]
+    // does not get used, O(n) construction.
+    public ConcurrentFenwickTree(long[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values array can not be null");
+        }
+
+        N = values.length;
+        values[0] = 0L;
+
+        // build in a plain array, the tree is not shared yet
+        long[] fenwickTree = values.clone();
+        for (int i = 1; i < N; i++) {
+            int parent = i + lsb(i);
+            if (parent < N) {
+                fenwickTree[parent] += fenwickTree[i];
+            }
+        }
+
+        tree = new AtomicLongArray(fenwickTree);
+    }
+
+    // Returns the sum of the interval [left, right], O(log(n))
+    public long sum(int left, int right) {
+        if (left > right) {
+            throw new IllegalArgumentException("Make sure right >= left");
+        }
+        return prefixSum(right) - prefixSum(left - 1);
+    }
+
+    // Get the value at index i
+    public long get(int i) {
+        return sum(i, i);
+    }
+
+    // Add 'v' to index 'i', lock free, O(log(n))
+    public void add(int i, long v) {
+        if (i <= 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (i < N) {
+            tree.getAndAdd(i, v);
+            i += lsb(i);
+        }
+    }
+
+    // Computes the prefix sum from [1, i], O(log(n))
+    private long prefixSum(int i) {
+        long sum = 0L;
+        while (i != 0) {
+            sum += tree.get(i);
+            i &= ~lsb(i); // Equivalently, i -= lsb(i);
+        }
+        return sum;
+    }
+
+    // Returns the value of the least significant bit (LSB)
+    private static int lsb(int i) {
+        // Isolates the lowest one bit
+        return i & -i;
+    }
+}
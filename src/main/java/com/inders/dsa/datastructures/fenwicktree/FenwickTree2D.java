@@ -0,0 +1,110 @@
+package com.inders.dsa.datastructures.fenwicktree;
+
+// Fenwick tree over a grid with point updates and rectangle sums, O(log(n) * log(m))
+// each. Both dimensions are 1-based like the other Fenwick trees and the tree is
+// stored row by row in one flattened long[] of (rows + 1) * (cols + 1) cells.
+public class FenwickTree2D {
+
+    // Number of rows and columns including the unused index 0
+    final int R, C;
+
+    // The flattened tree, cell (r, c) is at index r * C + c
+    private final long[] tree;
+
+    // Create an empty fenwick tree with rows x cols cells
+    public FenwickTree2D(int rows, int cols) {
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException("Make sure rows >= 0 and cols >= 0");
+        }
+        R = rows + 1;
+        C = cols + 1;
+        tree = new long[Math.multiplyExact(R, C)];
+    }
+
+    // Construct a Fenwick tree with an initial grid of values.
+    // The 'values' grid MUST BE ONE BASED meaning row 0 and column 0
+    // do not get used, O(n * m) construction.
+    public FenwickTree2D(long[][] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("Values grid can not be null or empty");
+        }
+
+        R = values.length;
+        C = values[0].length;
+        tree = new long[Math.multiplyExact(R, C)];
+
+        for (int r = 1; r < R; r++) {
+            if (values[r].length != C) {
+                throw new IllegalArgumentException("All rows must have the same length");
+            }
+            System.arraycopy(values[r], 1, tree, r * C + 1, C - 1);
+        }
+
+        // the same linear pass as the 1D construction, first along every row
+        // then along every column
+        for (int r = 1; r < R; r++) {
+            int row = r * C;
+            for (int c = 1; c < C; c++) {
+                int parent = c + lsb(c);
+                if (parent < C) {
+                    tree[row + parent] += tree[row + c];
+                }
+            }
+        }
+        for (int r = 1; r < R; r++) {
+            int parent = r + lsb(r);
+            if (parent < R) {
+                int row = r * C, parentRow = parent * C;
+                for (int c = 1; c < C; c++) {
+                    tree[parentRow + c] += tree[row + c];
+                }
+            }
+        }
+    }
+
+    // Returns the sum of the rectangle [r1, r2] x [c1, c2], O(log(n) * log(m))
+    public long sum(int r1, int c1, int r2, int c2) {
+        if (r1 > r2 || c1 > c2) {
+            throw new IllegalArgumentException("Make sure r2 >= r1 and c2 >= c1");
+        }
+        return prefixSum(r2, c2) - prefixSum(r1 - 1, c2) - prefixSum(r2, c1 - 1) + prefixSum(r1 - 1, c1 - 1);
+    }
+
+    // Get the value at cell (r, c)
+    public long get(int r, int c) {
+        return sum(r, c, r, c);
+    }
+
+    // Add 'v' to cell (r, c), O(log(n) * log(m))
+    public void add(int r, int c, long v) {
+        for (int i = r; i < R; i += lsb(i)) {
+            int row = i * C;
+            for (int j = c; j < C; j += lsb(j)) {
+                tree[row + j] += v;
+            }
+        }
+    }
+
+    // Set cell (r, c) to be equal to v, O(log(n) * log(m))
+    public void set(int r, int c, long v) {
+        add(r, c, v - get(r, c));
+    }
+
+    // Computes the sum of the rectangle [1, r] x [1, c], O(log(n) * log(m))
+    private long prefixSum(int r, int c) {
+        long sum = 0L;
+        for (int i = r; i != 0; i &= ~lsb(i)) {
+            int row = i * C;
+            for (int j = c; j != 0; j &= ~lsb(j)) {
+                sum += tree[row + j];
+            }
+        }
+        return sum;
+    }
+
+    // Returns the value of the least significant bit (LSB)
+    private static int lsb(int i) {
+        // Isolates the lowest one bit
+        return i & -i;
+    }
+}
@@ -0,0 +1,119 @@
+package com.inders.dsa.datastructures.fenwicktree;
+
+// Fenwick tree over a k dimensional box with point updates and box sums in
+// O(log(n1) * ... * log(nk)). Every dimension is 1-based like the other Fenwick
+// trees and the cells are stored in one flattened long[] in row major order.
+// For two dimensions FenwickTree2D does the same with less overhead.
+public class FenwickTreeND {
+
+    // Size of every dimension including the unused index 0
+    private final int[] dims;
+
+    // Distance in the flattened array between neighbours along every dimension
+    private final int[] strides;
+
+    // The flattened tree
+    private final long[] tree;
+
+    // Create an empty fenwick tree, one size per dimension
+    public FenwickTreeND(int... sizes) {
+        if (sizes == null || sizes.length == 0) {
+            throw new IllegalArgumentException("At least one dimension is needed");
+        }
+        int k = sizes.length;
+        dims = new int[k];
+        strides = new int[k];
+        int cells = 1;
+        for (int d = k - 1; d >= 0; d--) {
+            if (sizes[d] < 0) {
+                throw new IllegalArgumentException("Make sure all sizes are >= 0");
+            }
+            dims[d] = sizes[d] + 1;
+            strides[d] = cells;
+            cells = Math.multiplyExact(cells, dims[d]);
+        }
+        tree = new long[cells];
+    }
+
+    // returns the number of dimensions
+    public int dimensions() {
+        return dims.length;
+    }
+
+    // Add 'v' to the cell at 'index', one 1-based coordinate per dimension
+    public void add(int[] index, long v) {
+        checkIndex(index);
+        add(0, 0, index, v);
+    }
+
+    // Returns the sum of the box between the corners lo and hi, both inclusive,
+    // by inclusion exclusion over its 2^k prefix boxes
+    public long sum(int[] lo, int[] hi) {
+        checkIndex(lo);
+        checkIndex(hi);
+        int k = dims.length;
+        for (int d = 0; d < k; d++) {
+            if (lo[d] > hi[d]) {
+                throw new IllegalArgumentException("Make sure hi >= lo in every dimension");
+            }
+        }
+
+        long sum = 0L;
+        int[] corner = new int[k];
+        for (int mask = 0; mask < 1 << k; mask++) {
+            for (int d = 0; d < k; d++) {
+                corner[d] = (mask & (1 << d)) != 0 ? lo[d] - 1 : hi[d];
+            }
+            long prefix = prefixSum(0, 0, corner);
+            sum += (Integer.bitCount(mask) & 1) == 0 ? prefix : -prefix;
+        }
+        return sum;
+    }
+
+    // Get the value at 'index'
+    public long get(int[] index) {
+        return sum(index, index);
+    }
+
+    // Set the cell at 'index' to be equal to v
+    public void set(int[] index, long v) {
+        add(index, v - get(index));
+    }
+
+    // walk the update path of dimension d, offset is the flattened position of
+    // the coordinates fixed so far in dimensions 0..d-1
+    private void add(int d, int offset, int[] index, long v) {
+        for (int i = index[d]; i < dims[d]; i += lsb(i)) {
+            if (d == dims.length - 1) {
+                tree[offset + i] += v;
+            } else {
+                add(d + 1, offset + i * strides[d], index, v);
+            }
+        }
+    }
+
+    // Computes the sum of the box [1, index[0]] x ... x [1, index[k - 1]]
+    private long prefixSum(int d, int offset, int[] index) {
+        long sum = 0L;
+        for (int i = index[d]; i != 0; i &= ~lsb(i)) {
+            if (d == dims.length - 1) {
+                sum += tree[offset + i];
+            } else {
+                sum += prefixSum(d + 1, offset + i * strides[d], index);
+            }
+        }
+        return sum;
+    }
+
+    private void checkIndex(int[] index) {
+        if (index == null || index.length != dims.length) {
+            throw new IllegalArgumentException("Expected " + dims.length + " coordinates");
+        }
+    }
+
+    // Returns the value of the least significant bit (LSB)
+    private static int lsb(int i) {
+        // Isolates the lowest one bit
+        return i & -i;
+    }
+}
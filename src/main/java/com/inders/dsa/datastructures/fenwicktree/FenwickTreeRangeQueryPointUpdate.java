@@ -63,6 +63,32 @@ public class FenwickTreeRangeQueryPointUpdate {
         add(i, v - sum(i, i));
     }
 
+    // Returns the smallest index i with prefixSum(i) >= target, or -1 if the sum
+    // of all values is smaller than target. Walks down the tree from the largest
+    // power of two instead of binary searching over sum(), O(log(n)).
+    // This method assumes all values are non negative.
+    public int findPrefixIndex(long target) {
+        int pos = 0;
+        for (int step = Integer.highestOneBit(Math.max(1, N - 1)); step != 0; step >>= 1) {
+            int next = pos + step;
+            if (next < N && tree[next] < target) {
+                // the prefix up to next is still too small, skip over it
+                pos = next;
+                target -= tree[next];
+            }
+        }
+        return pos + 1 < N ? pos + 1 : -1;
+    }
+
+    // Returns the index holding the k-th unit (1-based) when the values are
+    // counts, e.g. the k-th smallest element of a frequency table, O(log(n))
+    public int kth(long k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Make sure k >= 1");
+        }
+        return findPrefixIndex(k);
+    }
+
     @Override
     public String toString() {
         return java.util.Arrays.toString(tree);
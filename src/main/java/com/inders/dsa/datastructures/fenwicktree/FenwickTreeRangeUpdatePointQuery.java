@@ -5,12 +5,9 @@ public class FenwickTreeRangeUpdatePointQuery {
     // The size of the array holding the Fenwick tree values
     final int N;
 
-    // This array contains the original Fenwick tree range
-    // values from when it was first created.
-    private long[] originalTree;
-
-    // The current tree will contain the updated range values
-    private long[] currentTree;
+    // The Fenwick tree over the differences d[i] = a[i] - a[i - 1] of the
+    // values, so the value at index i is the prefix sum of d up to i.
+    private final long[] tree;
 
     // Construct a Fenwick tree with an initial set of values.
     // The 'values' array MUST BE ONE BASED meaning values[0]
@@ -24,19 +21,19 @@ public class FenwickTreeRangeUpdatePointQuery {
         N = values.length;
         values[0] = 0L;
 
-        // Make a clone of the values array since we manipulate
-        // the array in place destroying all its original content.
-        long[] fenwickTree = values.clone();
+        // Store the differences between neighbouring values, a range update
+        // then only changes the differences at both ends of the range.
+        tree = new long[N];
+        for (int i = 1; i < N; i++) {
+            tree[i] = values[i] - values[i - 1];
+        }
 
         for (int i = 1; i < N; i++) {
             int parent = i + lsb(i);
             if (parent < N) {
-                fenwickTree[parent] += fenwickTree[i];
+                tree[parent] += tree[i];
             }
         }
-
-        originalTree = fenwickTree;
-        currentTree = fenwickTree.clone();
     }
 
     // Update the interval [left, right] with the value 'val', O(log(n))
@@ -45,16 +42,19 @@ public class FenwickTreeRangeUpdatePointQuery {
         add(right + 1, -val);
     }
 
-    // Get the value at a specific index. The logic behind this method is the
-    // same as finding the prefix sum in a Fenwick tree except that you need to
-    // take the difference between the current tree and the original to get
-    // the point value.
+    // Get the value at a specific index, which is the prefix sum of the
+    // differences up to that index, O(log(n))
     public long get(int i) {
-        return prefixSum(i, currentTree) - prefixSum(i - 1, originalTree);
+        return prefixSum(i);
+    }
+
+    // Set index i to be equal to v, O(log(n))
+    public void set(int i, long v) {
+        updateRange(i, i, v - get(i));
     }
 
     // Computes the prefix sum from [1, i], O(log(n))
-    private long prefixSum(int i, long[] tree) {
+    private long prefixSum(int i) {
         long sum = 0L;
         while (i != 0) {
             sum += tree[i];
@@ -66,7 +66,7 @@ public class FenwickTreeRangeUpdatePointQuery {
     // Add 'v' to index 'i' and all the ranges responsible for 'i', O(log(n))
     private void add(int i, long v) {
         while (i < N) {
-            currentTree[i] += v;
+            tree[i] += v;
             i += lsb(i);
         }
     }
@@ -0,0 +1,108 @@
+package com.inders.dsa.datastructures.fenwicktree;
+
+public class FenwickTreeRangeUpdateRangeQuery {
+
+    // Size of the arrays holding the fenwick tree values
+    final int N;
+
+    // Both trees are built over the difference array d[i] = a[i] - a[i - 1] of
+    // the values. The prefix sum of the values is then
+    //   a[1] + ... + a[i] = i * (d[1] + ... + d[i]) - (0 * d[1] + ... + (i - 1) * d[i])
+    // so the first tree holds d[i] and the second one (i - 1) * d[i].
+    private final long[] tree1;
+    private final long[] tree2;
+
+    // Create an empty fenwick tree with size
+    public FenwickTreeRangeUpdateRangeQuery(int sz) {
+        // add 1 because fenwick tree has 1-based index
+        N = sz + 1;
+        tree1 = new long[N];
+        tree2 = new long[N];
+    }
+
+    // Construct a Fenwick tree with an initial set of values.
+    // The 'values' array MUST BE ONE BASED meaning values[0]
+    // does not get used, O(n) construction.
+    public FenwickTreeRangeUpdateRangeQuery(long[] values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Values array can not be null");
+        }
+
+        N = values.length;
+        values[0] = 0L;
+
+        tree1 = new long[N];
+        tree2 = new long[N];
+        for (int i = 1; i < N; i++) {
+            long d = values[i] - values[i - 1];
+            tree1[i] = d;
+            tree2[i] = d * (i - 1);
+        }
+
+        for (int i = 1; i < N; i++) {
+            int parent = i + lsb(i);
+            if (parent < N) {
+                tree1[parent] += tree1[i];
+                tree2[parent] += tree2[i];
+            }
+        }
+    }
+
+    // Returns the sum of the interval [left, right], O(log(n))
+    public long sum(int left, int right) {
+        if (left > right) {
+            throw new IllegalArgumentException("Make sure right >= left");
+        }
+        return prefixSum(right) - prefixSum(left - 1);
+    }
+
+    // Get the value at index i, O(log(n))
+    public long get(int i) {
+        return sum(i, i);
+    }
+
+    // Add 'v' to every index of the interval [left, right], O(log(n))
+    public void updateRange(int left, int right, long v) {
+        if (left > right) {
+            throw new IllegalArgumentException("Make sure right >= left");
+        }
+        addDifference(left, v);
+        addDifference(right + 1, -v);
+    }
+
+    // Add 'v' to index 'i', O(log(n))
+    public void add(int i, long v) {
+        updateRange(i, i, v);
+    }
+
+    // Set index i to be equal to v, O(log(n))
+    public void set(int i, long v) {
+        add(i, v - get(i));
+    }
+
+    // Computes the prefix sum from [1, i], O(log(n))
+    private long prefixSum(int i) {
+        long sum1 = 0L, sum2 = 0L;
+        for (int j = i; j != 0; j &= ~lsb(j)) {
+            sum1 += tree1[j];
+            sum2 += tree2[j];
+        }
+        return sum1 * i - sum2;
+    }
+
+    // Add 'd' to the difference at index 'i' in both trees, O(log(n))
+    private void addDifference(int i, long d) {
+        long d2 = d * (i - 1);
+        while (i < N) {
+            tree1[i] += d;
+            tree2[i] += d2;
+            i += lsb(i);
+        }
+    }
+
+    // Returns the value of the least significant bit (LSB)
+    private static int lsb(int i) {
+        // Isolates the lowest one bit
+        return i & -i;
+    }
+}
@@ -0,0 +1,200 @@
+package com.inders.dsa.datastructures.fenwicktree;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongUnaryOperator;
+
+// Fenwick tree with long indexes kept in a memory mapped file, for counters
+// with more slots than fit in a long[] on the heap. Changes go straight to the
+// file through the page cache, and open maps an existing file again without
+// reading or rebuilding anything, so the counters survive a restart.
+//
+// File layout: a header of MAGIC and the size, followed by the 1-based tree as
+// little endian longs (index 0 is stored but unused, like in the heap version).
+// create writes the header only once the whole tree is on disk.
+// A mapping is at most 2^31 - 1 bytes, so the tree is mapped in segments of
+// 2^SEGMENT_BITS longs (1 GB each).
+public class MappedFenwickTree implements AutoCloseable {
+
+    // the bytes "Fenwick1" on disk, read as a little endian long
+    private static final long MAGIC = 0x316b6369776e6546L;
+    private static final int HEADER_BYTES = 2 * Long.BYTES;
+    private static final int SEGMENT_BITS = 27;
+
+    // Size of the tree including the unused index 0
+    final long N;
+
+    private final FileChannel channel;
+    private final int segmentBits;
+    private final long segmentMask;
+    private final MappedByteBuffer[] mapped;
+    private final LongBuffer[] segments;
+
+    private MappedFenwickTree(FileChannel channel, long n, int segmentBits) throws IOException {
+        this.channel = channel;
+        this.N = n;
+        this.segmentBits = segmentBits;
+        this.segmentMask = (1L << segmentBits) - 1;
+
+        int nSegments = (int) ((n - 1) >>> segmentBits) + 1;
+        mapped = new MappedByteBuffer[nSegments];
+        segments = new LongBuffer[nSegments];
+        for (int s = 0; s < nSegments; s++) {
+            long first = (long) s << segmentBits;
+            long length = Math.min(1L << segmentBits, n - first);
+            mapped[s] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + first * Long.BYTES, length * Long.BYTES);
+            segments[s] = mapped[s].order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        }
+    }
+
+    // Create a new file holding an empty fenwick tree with size, replacing any
+    // existing file at path
+    public static MappedFenwickTree create(Path path, long sz) throws IOException {
+        return create(path, sz, i -> 0L, SEGMENT_BITS);
+    }
+
+    // Create a new file holding a fenwick tree with the values valueAt(1) to
+    // valueAt(sz), replacing any existing file at path. The values are written
+    // to the file and turned into a tree in place, O(n) construction.
+    public static MappedFenwickTree create(Path path, long sz, LongUnaryOperator valueAt) throws IOException {
+        return create(path, sz, valueAt, SEGMENT_BITS);
+    }
+
+    static MappedFenwickTree create(Path path, long sz, LongUnaryOperator valueAt, int segmentBits) throws IOException {
+        if (sz < 0 || valueAt == null) {
+            throw new IllegalArgumentException("Make sure sz >= 0 and valueAt is not null");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long n = sz + 1;
+            MappedFenwickTree ft = new MappedFenwickTree(channel, n, segmentBits);
+            for (long i = 1; i < n; i++) {
+                ft.write(i, valueAt.applyAsLong(i));
+            }
+            for (long i = 1; i < n; i++) {
+                long parent = i + lsb(i);
+                if (parent < n) {
+                    ft.write(parent, ft.read(parent) + ft.read(i));
+                }
+            }
+            // the header goes in last, so a file left behind by a build which
+            // failed or crashed part way has no magic and is rejected by open
+            ft.flush();
+            ft.writeHeader();
+            return ft;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Open a fenwick tree file written by create, without rebuilding it
+    public static MappedFenwickTree open(Path path) throws IOException {
+        return open(path, SEGMENT_BITS);
+    }
+
+    static MappedFenwickTree open(Path path, int segmentBits) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            long n = header.getLong(Long.BYTES);
+            if (header.getLong(0) != MAGIC || n <= 0 || channel.size() != HEADER_BYTES + n * Long.BYTES) {
+                throw new IOException("Not a fenwick tree file: " + path);
+            }
+            return new MappedFenwickTree(channel, n, segmentBits);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // returns the number of values in the tree
+    public long size() {
+        return N - 1;
+    }
+
+    // Returns the sum of the interval [left, right], O(log(n))
+    public long sum(long left, long right) {
+        if (left > right) {
+            throw new IllegalArgumentException("Make sure right >= left");
+        }
+        return prefixSum(right) - prefixSum(left - 1);
+    }
+
+    // Get the value at index i
+    public long get(long i) {
+        return sum(i, i);
+    }
+
+    // Add 'v' to index 'i', O(log(n))
+    public void add(long i, long v) {
+        if (i <= 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (i < N) {
+            write(i, read(i) + v);
+            i += lsb(i);
+        }
+    }
+
+    // Set index i to be equal to v, O(log(n))
+    public void set(long i, long v) {
+        add(i, v - sum(i, i));
+    }
+
+    // write all changes through to the file
+    public void flush() {
+        for (MappedByteBuffer buffer : mapped) {
+            buffer.force();
+        }
+    }
+
+    // flush and close the file, the tree can not be used afterwards
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    // Computes the prefix sum from [1, i], O(log(n))
+    private long prefixSum(long i) {
+        if (i >= N) {
+            throw new IndexOutOfBoundsException();
+        }
+        long sum = 0L;
+        while (i > 0) {
+            sum += read(i);
+            i &= ~lsb(i);
+        }
+        return sum;
+    }
+
+    private void writeHeader() throws IOException {
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        header.putLong(0, MAGIC);
+        header.putLong(Long.BYTES, N);
+        header.force();
+    }
+
+    private long read(long i) {
+        return segments[(int) (i >>> segmentBits)].get((int) (i & segmentMask));
+    }
+
+    private void write(long i, long value) {
+        segments[(int) (i >>> segmentBits)].put((int) (i & segmentMask), value);
+    }
+
+    // Returns the value of the least significant bit (LSB)
+    private static long lsb(long i) {
+        // Isolates the lowest one bit
+        return i & -i;
+    }
+}
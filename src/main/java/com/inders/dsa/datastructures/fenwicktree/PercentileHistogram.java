@@ -0,0 +1,86 @@
+package com.inders.dsa.datastructures.fenwicktree;
+
+import java.util.Arrays;
+
+// Histogram with fixed buckets answering live percentile queries, e.g. p50/p99
+// latencies. The bucket counts are kept in a FenwickTreeRangeQueryPointUpdate
+// so recording a value is O(log(n)) and a percentile is found with a single
+// descent of the tree in O(log(n)).
+//
+// Bucket i holds the values in (upperBounds[i - 1], upperBounds[i]] and a
+// percentile is reported as the upper bound of the bucket it falls in. Values
+// above the last bound are counted in the last bucket.
+public class PercentileHistogram {
+
+    // upper bound of every bucket, strictly increasing
+    private final long[] upperBounds;
+
+    // count of every bucket, bucket i is at index i + 1 of the tree
+    private final FenwickTreeRangeQueryPointUpdate counts;
+
+    // total number of recorded values
+    private long count;
+
+    public PercentileHistogram(long[] upperBounds) {
+        if (upperBounds == null || upperBounds.length == 0) {
+            throw new IllegalArgumentException("At least one bucket is needed");
+        }
+        for (int i = 1; i < upperBounds.length; i++) {
+            if (upperBounds[i - 1] >= upperBounds[i]) {
+                throw new IllegalArgumentException("Bucket bounds must be strictly increasing");
+            }
+        }
+        this.upperBounds = upperBounds.clone();
+        counts = new FenwickTreeRangeQueryPointUpdate(upperBounds.length);
+    }
+
+    // returns the total number of recorded values
+    public long count() {
+        return count;
+    }
+
+    // record one occurrence of value, O(log(n))
+    public void record(long value) {
+        record(value, 1);
+    }
+
+    // record 'times' occurrences of value, O(log(n))
+    public void record(long value, long times) {
+        if (times < 0) {
+            throw new IllegalArgumentException("Make sure times >= 0");
+        }
+        counts.add(bucketOf(value) + 1, times);
+        count += times;
+    }
+
+    // returns the number of recorded values <= upperBounds[bucket]
+    public long countAtOrBelow(int bucket) {
+        if (bucket < 0 || bucket >= upperBounds.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        return counts.sum(1, bucket + 1);
+    }
+
+    // returns the upper bound of the bucket holding the p-th percentile, the
+    // smallest bucket bound which at least p percent of the values are at or
+    // below, O(log(n))
+    public long percentile(double p) {
+        if (!(p > 0 && p <= 100)) {
+            throw new IllegalArgumentException("Make sure 0 < p <= 100");
+        }
+        if (count == 0) {
+            throw new IllegalStateException("Histogram is empty");
+        }
+        long rank = Math.max(1, (long) Math.ceil(p / 100 * count));
+        return upperBounds[counts.kth(Math.min(rank, count)) - 1];
+    }
+
+    // returns the bucket of value, the first one with an upper bound >= value
+    private int bucketOf(long value) {
+        int i = Arrays.binarySearch(upperBounds, value);
+        if (i < 0) {
+            i = -i - 1;
+        }
+        return Math.min(i, upperBounds.length - 1);
+    }
+}
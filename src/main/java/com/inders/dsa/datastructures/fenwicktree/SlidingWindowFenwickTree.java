@@ -0,0 +1,104 @@
+package com.inders.dsa.datastructures.fenwicktree;
+
+// Sums over the last N time buckets (e.g. seconds) of a time series. The
+// buckets live in a ring of N slots backed by a FenwickTreeRangeQueryPointUpdate,
+// time t goes to slot t mod N, and a slot is reused when time moves past it by
+// subtracting the expiring bucket from the tree. Nothing is reallocated after
+// construction.
+//
+// Only the times in (now - N, now] are kept, where now is the latest time
+// passed to advance or add. add and sum are O(log(N)), advance is O(log(N))
+// per expired bucket and at most O(N * log(N)) for a jump of N or more.
+public class SlidingWindowFenwickTree {
+
+    // number of buckets in the window
+    private final int n;
+
+    // bucket counts, slot s of the ring is at index s + 1 of the tree
+    private final FenwickTreeRangeQueryPointUpdate tree;
+
+    // the latest time seen
+    private long now;
+
+    public SlidingWindowFenwickTree(int windowSize, long startTime) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Make sure windowSize > 0");
+        }
+        n = windowSize;
+        tree = new FenwickTreeRangeQueryPointUpdate(n);
+        now = startTime;
+    }
+
+    // returns the latest time seen
+    public long now() {
+        return now;
+    }
+
+    // returns the number of buckets in the window
+    public int windowSize() {
+        return n;
+    }
+
+    // move the window forward so that it ends at time, expiring the buckets
+    // which fall out of it. Moving backwards is not allowed
+    public void advance(long time) {
+        if (time < now) {
+            throw new IllegalArgumentException("Time can not go backwards: " + time + " < " + now);
+        }
+        long expire = Math.min(time - now, n);
+        for (long t = now + 1; t <= now + expire; t++) {
+            // slot of t held time t - n which is now out of the window
+            tree.set(slot(t), 0);
+        }
+        now = time;
+    }
+
+    // add v to the bucket of time, advancing the window if time is past now.
+    // time must not be older than the window
+    public void add(long time, long v) {
+        if (time > now) {
+            advance(time);
+        }
+        inWindowOrThrow(time);
+        tree.add(slot(time), v);
+    }
+
+    // returns the value of the bucket of time
+    public long get(long time) {
+        return sum(time, time);
+    }
+
+    // returns the sum of the buckets in [from, to], both must be in the window
+    public long sum(long from, long to) {
+        if (from > to) {
+            throw new IllegalArgumentException("Make sure to >= from");
+        }
+        inWindowOrThrow(from);
+        inWindowOrThrow(to);
+        int lo = slot(from), hi = slot(to);
+        if (lo <= hi) {
+            return tree.sum(lo, hi);
+        }
+        // the range wraps around the end of the ring
+        return tree.sum(lo, n) + tree.sum(1, hi);
+    }
+
+    // returns the sum of the last 'buckets' buckets up to and including now
+    public long sumLast(int buckets) {
+        if (buckets <= 0 || buckets > n) {
+            throw new IllegalArgumentException("Make sure 0 < buckets <= " + n);
+        }
+        return sum(now - buckets + 1, now);
+    }
+
+    // position of time t in the tree
+    private int slot(long t) {
+        return (int) Math.floorMod(t, (long) n) + 1;
+    }
+
+    private void inWindowOrThrow(long time) {
+        if (time > now || time <= now - n) {
+            throw new IndexOutOfBoundsException("Time " + time + " is outside the window (" + (now - n) + ", " + now + "]");
+        }
+    }
+}
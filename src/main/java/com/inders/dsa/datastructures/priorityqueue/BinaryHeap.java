@@ -4,11 +4,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.PriorityQueue;
 
+@SuppressWarnings("unchecked")
 public final class BinaryHeap<T extends Comparable<T>> implements Heap<T> {
 
-    // list to store elements in the heap
-    private final List<T> heap;
+    // array to store elements in the heap, grown manually when full
+    private T[] heap;
+
+    // number of elements in the heap
+    private int size;
 
     public BinaryHeap() {
         this(1);
@@ -16,49 +21,45 @@ public final class BinaryHeap<T extends Comparable<T>> implements Heap<T> {
 
     // initialize heap with a certain capacity
     public BinaryHeap(int capacity) {
-        heap = new ArrayList<>(capacity);
+        heap = (T[]) new Comparable<?>[Math.max(1, capacity)];
     }
 
     // construct a heap using heapify in O(n) linear time
     public BinaryHeap(T[] elements) {
-        int capacity = elements.length;
-        heap = new ArrayList<>(capacity);
+        this(elements.length);
 
         // add all elements to the heap
-        heap.addAll(Arrays.asList(elements).subList(0, capacity));
+        System.arraycopy(elements, 0, heap, 0, elements.length);
+        size = elements.length;
 
-        // heapify process : http://www.cs.umd.edu/~meesh/351/mount/lectures/lect14-heapsort-analysis-part.pdf
-        for (int i = Math.max(0, (capacity / 2) - 1); i >= 0; i--) {
-            sink(i);
-        }
+        heapify();
     }
 
     public BinaryHeap(Collection<T> elements) {
-        int capacity = elements.size();
-        heap = new ArrayList<>(capacity);
+        this(elements.size());
 
         // add all elements to the heap
-        heap.addAll(elements);
-
-        // heapify process : http://www.cs.umd.edu/~meesh/351/mount/lectures/lect14-heapsort-analysis-part.pdf
-        for (int i = Math.max(0, (capacity / 2) - 1); i >= 0; i--) {
-            sink(i);
+        for (T elem : elements) {
+            heap[size++] = elem;
         }
+
+        heapify();
     }
 
     @Override
     public int size() {
-        return heap.size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return size() == 0;
+        return size == 0;
     }
 
     @Override
     public void clear() {
-        heap.clear();
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
     }
 
     // returns root element of the heap or
@@ -69,7 +70,7 @@ public final class BinaryHeap<T extends Comparable<T>> implements Heap<T> {
         if (isEmpty()) {
             return null;
         }
-        return heap.getFirst();
+        return heap[0];
     }
 
     // removes and returns root element of the heap
@@ -81,9 +82,96 @@ public final class BinaryHeap<T extends Comparable<T>> implements Heap<T> {
         return removeAt(0);
     }
 
+    // removes the k smallest elements in sorted order into dest and returns
+    // how many were removed, which is less than k if the heap runs out. Small
+    // batches pay O(log(n)) per element, large ones are selected, sorted and the
+    // rest of the heap is rebuilt once, O(n + k*log(k)) expected
+    public int pollN(int k, T[] dest) {
+        int count = Math.min(k, size());
+        if (count < 0 || dest.length < count) {
+            throw new IllegalArgumentException("Make sure 0 <= k and dest can hold " + count + " elements");
+        }
+        if (!HeapCost.shouldRebuild(size, count)) {
+            for (int i = 0; i < count; i++) {
+                dest[i] = removeAt(0);
+            }
+            return count;
+        }
+
+        // move the count smallest elements to the front, sort them and
+        // heapify the rest which slides down to the start of the array
+        HeapCost.select(heap, count, size);
+        Arrays.sort(heap, 0, count);
+        System.arraycopy(heap, 0, dest, 0, count);
+        System.arraycopy(heap, count, heap, 0, size - count);
+        Arrays.fill(heap, size - count, size, null);
+        size -= count;
+        heapify();
+        return count;
+    }
+
+    // returns the k smallest elements in sorted order without modifying the heap.
+    // the heap is walked from the root with a small frontier heap holding the
+    // children of every element taken so far, O(k*log(k))
+    public List<T> topK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be >= 0");
+        }
+        int count = Math.min(k, size());
+        List<T> top = new ArrayList<>(count);
+        if (count == 0) {
+            return top;
+        }
+
+        PriorityQueue<Integer> frontier = new PriorityQueue<>(2 * count, (i, j) -> heap[i].compareTo(heap[j]));
+        frontier.add(0);
+        while (top.size() < count) {
+            int i = frontier.poll();
+            top.add(heap[i]);
+            int left = 2 * i + 1;
+            int right = 2 * i + 2;
+            if (left < size) frontier.add(left);
+            if (right < size) frontier.add(right);
+        }
+        return top;
+    }
+
+    // add all the elements to the heap. When the batch is large compared to the
+    // heap the elements are appended and the whole heap is heapified in O(n + m)
+    // instead of swimming each of them in O(m*log(n + m))
+    public void addAll(Collection<T> elements) {
+        for (T elem : elements) {
+            if (elem == null) {
+                throw new IllegalArgumentException();
+            }
+        }
+
+        int m = elements.size();
+        ensureCapacity(size + m);
+        if (!HeapCost.shouldHeapify(size, m)) {
+            for (T elem : elements) {
+                add(elem);
+            }
+            return;
+        }
+
+        for (T elem : elements) {
+            heap[size++] = elem;
+        }
+        heapify();
+    }
+
     @Override
     public boolean contains(T elem) {
-        return heap.contains(elem);
+        if (elem == null) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (elem.equals(heap[i])) {
+                return true;
+            }
+        }
+        return false;
     }
 
     // add an element to the heap
@@ -92,8 +180,8 @@ public final class BinaryHeap<T extends Comparable<T>> implements Heap<T> {
         if (elem == null) {
             throw new IllegalArgumentException();
         }
-        heap.add(elem);
-        swim(size() - 1);
+        ensureCapacity(size + 1);
+        swim(size++, elem);
     }
 
     // remove first occurrence of an element from the heap
@@ -103,8 +191,8 @@ public final class BinaryHeap<T extends Comparable<T>> implements Heap<T> {
             return false;
         }
 
-        for (int i = 0; i < size(); i++) {
-            if (elem.equals(heap.get(i))) {
+        for (int i = 0; i < size; i++) {
+            if (elem.equals(heap[i])) {
                 removeAt(i);
                 return true;
             }
@@ -118,73 +206,86 @@ public final class BinaryHeap<T extends Comparable<T>> implements Heap<T> {
             return null;
         }
 
-        int lastIndex = size() - 1;
-        T removedElem = heap.get(i);
+        T removedElem = heap[i];
 
-        swap(i, lastIndex); // swap elem at i with last elem
-        heap.remove(lastIndex); // clear the last index
+        // take out the last elem and clear the last index
+        T last = heap[--size];
+        heap[size] = null;
 
-        if (i == lastIndex) {
+        if (i == size) {
             return removedElem;
         }
 
-        T elem = heap.get(i);
-        sink(i); // try sinking
-        if (heap.get(i).equals(elem)) {
-            swim(i); // swim if sinking did not work
+        // fill the hole at i with the last elem
+        if (sink(i, last) == i) {
+            swim(i, last); // swim if sinking did not work
         }
 
         return removedElem;
     }
 
-    private void swim(int k) {
-        int parent = (k - 1) / 2;
+    // heapify process : http://www.cs.umd.edu/~meesh/351/mount/lectures/lect14-heapsort-analysis-part.pdf
+    private void heapify() {
+        for (int i = Math.max(0, (size / 2) - 1); i >= 0; i--) {
+            sink(i, heap[i]);
+        }
+    }
 
-        while (k > 0 && less(k, parent)) {
-            swap(k, parent);
+    // move the hole at k up the tree until elem can be placed in it
+    private void swim(int k, T elem) {
+        while (k > 0) {
+            int parent = (k - 1) / 2;
+            if (heap[parent].compareTo(elem) <= 0) {
+                break;
+            }
+            heap[k] = heap[parent];
             k = parent;
-            parent = (k - 1) / 2;
         }
+        heap[k] = elem;
     }
 
-    private void sink(int k) {
-        int size = size();
+    // move the hole at k down the tree until elem can be placed in it. Moving
+    // the hole instead of swapping writes every level once instead of twice.
+    // returns the index where elem ends up
+    private int sink(int k, T elem) {
         while (true) {
             int left = 2 * k + 1;
-            int right = 2 * k + 2;
+            if (left >= size) {
+                break;
+            }
+
+            int right = left + 1;
             int smallest = left; // assume left node is the smallest
 
             // check if right is smaller
-            if (right < size && less(right, smallest)) {
+            if (right < size && heap[right].compareTo(heap[left]) <= 0) {
                 smallest = right;
             }
 
-            // break out of loop if out of bound of heap or k is smallest
-            if (left >= size || less(k, smallest)) {
+            // break out of loop if elem is not larger than the smallest child
+            if (elem.compareTo(heap[smallest]) <= 0) {
                 break;
             }
 
-            // Move down the tree with the smallest node
-            swap(k, smallest);
+            // Move the smallest child up and the hole down the tree
+            heap[k] = heap[smallest];
             k = smallest;
         }
+        heap[k] = elem;
+        return k;
+    }
+
+    // grow the backing array so that it can hold at least minCapacity elements
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > heap.length) {
+            heap = Arrays.copyOf(heap, Math.max(minCapacity, 2 * heap.length));
+        }
     }
 
     // Tests if the value of node i <= node j
     // This method assumes i & j are valid indices, O(1)
     private boolean less(int i, int j) {
-        T node1 = heap.get(i);
-        T node2 = heap.get(j);
-        return node1.compareTo(node2) <= 0;
-    }
-
-    // Swap two nodes. Assumes i & j are valid, O(1)
-    private void swap(int i, int j) {
-        T elem_i = heap.get(i);
-        T elem_j = heap.get(j);
-
-        heap.set(i, elem_j);
-        heap.set(j, elem_i);
+        return heap[i].compareTo(heap[j]) <= 0;
     }
 
     // recursively check if the min heap invariant
@@ -209,6 +310,6 @@ public final class BinaryHeap<T extends Comparable<T>> implements Heap<T> {
 
     @Override
     public String toString() {
-        return heap.toString();
+        return Arrays.toString(Arrays.copyOf(heap, size));
     }
 }
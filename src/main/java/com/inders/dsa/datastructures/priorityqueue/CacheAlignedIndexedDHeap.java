@@ -0,0 +1,276 @@
+package com.inders.dsa.datastructures.priorityqueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// IndexedDHeap with a cache friendly memory layout, same api as IndexedDHeap.
+//
+// IndexedDHeap compares values[im[i]] with values[im[j]] so every comparison
+// is two dependent random loads. Here the value of every node is stored in node
+// order right next to its key index, so minChild() scans d adjacent slots.
+// The root is stored at index d - 1 which makes the children of every node start
+// at a multiple of d, so a group of d children never straddles two d sized blocks
+// of the arrays (with d = 8 or 16 a block is about one cache line of references).
+// sink and swim move a hole through the heap instead of swapping nodes, and
+// parent/child indexes are computed instead of being read from lookup tables.
+@SuppressWarnings("unchecked")
+public class CacheAlignedIndexedDHeap<T extends Comparable<T>> {
+
+    // number of nodes in the heap
+    private int size;
+
+    // max number of nodes that this heap can have
+    private final int n;
+
+    // degree of each node of heap(number of children)
+    private final int d;
+
+    // array index of the root node, children of a node start at a multiple of d
+    private final int root;
+
+    // position map(pm) which stores array index in heap for each ki(key index)
+    private final int[] pm;
+
+    // key index for each array index in heap order, the inverse of pm
+    private final int[] keys;
+
+    // value for each array index in heap order
+    private final Object[] values;
+
+    public CacheAlignedIndexedDHeap(int degree, int maxNodes) {
+        if (maxNodes <= 0) {
+            throw new IllegalArgumentException();
+        }
+        d = Math.max(2, degree);
+        n = Math.max(d + 1, maxNodes);
+        root = d - 1;
+        size = 0;
+
+        pm = new int[n];
+        keys = new int[root + n];
+        values = new Object[root + n];
+
+        for (int i = 0; i < n; i++) {
+            pm[i] = -1;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = -1;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int ki) {
+        isKeyInboundOrThrow(ki);
+        return pm[ki] != -1; // -1 means there is no node corresponding to this ki
+    }
+
+    public int peekKeyIndex() {
+        isNotEmptyOrThrow();
+        return keys[root];
+    }
+
+    public int pollKeyIndex() {
+        int minKey = peekKeyIndex();
+        delete(minKey);
+        return minKey;
+    }
+
+    public T peekValue() {
+        isNotEmptyOrThrow();
+        return (T) values[root];
+    }
+
+    public T pollValue() {
+        int minKey = peekKeyIndex();
+        return delete(minKey);
+    }
+
+    public void insert(int ki, T value) {
+        if (contains(ki)) {
+            throw new IllegalArgumentException("Key index " + ki + " already exists!");
+        }
+        valueNotNullOrThrow(value);
+        swim(root + size++, ki, value);
+    }
+
+    public T valueOf(int ki) {
+        keyExistsOrThrow(ki);
+        return (T) values[pm[ki]];
+    }
+
+    public T update(int ki, T newValue) {
+        keyExistsAndValueNotNullOrThrow(ki, newValue);
+
+        final int i = pm[ki];
+        final T oldValue = (T) values[i];
+        if (less(newValue, oldValue)) {
+            swim(i, ki, newValue);
+        } else {
+            sink(i, ki, newValue);
+        }
+        return oldValue;
+    }
+
+    public T delete(int ki) {
+        keyExistsOrThrow(ki);
+        final int i = pm[ki]; // array index for this key index
+        final int last = root + --size;
+        T removedNode = (T) values[i];
+
+        pm[ki] = -1;
+        if (i != last) {
+            // fill the hole at i with the last node and move it to its place
+            int lastKey = keys[last];
+            Object lastValue = values[last];
+            clear(last);
+            if (less(lastValue, removedNode)) {
+                swim(i, lastKey, lastValue);
+            } else {
+                sink(i, lastKey, lastValue);
+            }
+        } else {
+            clear(last);
+        }
+        return removedNode;
+    }
+
+    // Strictly decreases the value associated with 'ki' to 'value'
+    public void decrease(int ki, T value) {
+        keyExistsAndValueNotNullOrThrow(ki, value);
+        final int i = pm[ki];
+        if (less(value, values[i])) {
+            swim(i, ki, value);
+        }
+    }
+
+    // Strictly increases the value associated with 'ki' to 'value'
+    public void increase(int ki, T value) {
+        keyExistsAndValueNotNullOrThrow(ki, value);
+        final int i = pm[ki];
+        if (less(values[i], value)) {
+            sink(i, ki, value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        List<Integer> lst = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            lst.add(keys[root + i]);
+        }
+        return lst.toString();
+    }
+
+    // array index of the parent of the node at array index i, i must not be the root
+    private int parent(int i) {
+        return i / d + d - 2;
+    }
+
+    // array index of the first child of the node at array index i
+    private int firstChild(int i) {
+        return d * (i - d + 2);
+    }
+
+    // move the hole at i up until (ki, value) can be placed in it
+    private void swim(int i, int ki, Object value) {
+        while (i > root) {
+            int p = parent(i);
+            if (!less(value, values[p])) {
+                break;
+            }
+            place(i, keys[p], values[p]);
+            i = p;
+        }
+        place(i, ki, value);
+    }
+
+    // move the hole at i down until (ki, value) can be placed in it
+    private void sink(int i, int ki, Object value) {
+        final int end = root + size;
+        while (true) {
+            int from = firstChild(i);
+            if (from >= end) {
+                break;
+            }
+            int to = Math.min(end, from + d);
+
+            // the d children are adjacent so this is a linear scan
+            int min = from;
+            Object minValue = values[from];
+            for (int j = from + 1; j < to; j++) {
+                if (less(values[j], minValue)) {
+                    min = j;
+                    minValue = values[j];
+                }
+            }
+
+            if (!less(minValue, value)) {
+                break;
+            }
+            place(i, keys[min], minValue);
+            i = min;
+        }
+        place(i, ki, value);
+    }
+
+    private void place(int i, int ki, Object value) {
+        keys[i] = ki;
+        values[i] = value;
+        pm[ki] = i;
+    }
+
+    private void clear(int i) {
+        keys[i] = -1;
+        values[i] = null;
+    }
+
+    // returns true if obj1 is less than obj2
+    private boolean less(Object obj1, Object obj2) {
+        return ((Comparable<? super T>) obj1).compareTo((T) obj2) < 0;
+    }
+
+    private void keyExistsAndValueNotNullOrThrow(int ki, Object value) {
+        keyExistsOrThrow(ki);
+        valueNotNullOrThrow(value);
+    }
+
+    private void valueNotNullOrThrow(Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value cannot be null");
+        }
+    }
+
+    private void keyExistsOrThrow(int ki) {
+        if (!contains(ki)) {
+            throw new NoSuchElementException("Key index does not exist : " + ki);
+        }
+    }
+
+    private void isNotEmptyOrThrow() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty!!");
+        }
+    }
+
+    private void isKeyInboundOrThrow(int ki) {
+        if (0 > ki || ki >= n) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    public boolean isMinHeap() {
+        final int end = root + size;
+        for (int i = root + 1; i < end; i++) {
+            if (less(values[i], values[parent(i)])) return false;
+        }
+        return true;
+    }
+}
@@ -1,5 +1,10 @@
 package com.inders.dsa.datastructures.priorityqueue;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+
 @SuppressWarnings("unchecked")
 public class DHeap<T extends Comparable<T>> implements Heap<T> {
 
@@ -74,9 +79,111 @@ public class DHeap<T extends Comparable<T>> implements Heap<T> {
         return root;
     }
 
+    // removes the k smallest elements in sorted order into dest and returns
+    // how many were removed, which is less than k if the heap runs out. Small
+    // batches pay O(d*log(n)) per element, large ones are selected, sorted and the
+    // rest of the heap is rebuilt once, O(n + k*log(k)) expected
+    public int pollN(int k, T[] dest) {
+        int count = Math.min(k, size);
+        if (count < 0 || dest.length < count) {
+            throw new IllegalArgumentException("Make sure 0 <= k and dest can hold " + count + " elements");
+        }
+        if (!HeapCost.shouldRebuild(size, count)) {
+            for (int i = 0; i < count; i++) {
+                dest[i] = poll();
+            }
+            return count;
+        }
+
+        // move the count smallest elements to the front, sort them and
+        // heapify the rest which slides down to the start of the array
+        HeapCost.select(heap, count, size);
+        java.util.Arrays.sort(heap, 0, count);
+        System.arraycopy(heap, 0, dest, 0, count);
+        System.arraycopy(heap, count, heap, 0, size - count);
+        java.util.Arrays.fill(heap, size - count, size, null);
+        size -= count;
+        heapify();
+        return count;
+    }
+
+    // returns the k smallest elements in sorted order without modifying the heap.
+    // the heap is walked from the root with a small frontier heap holding the
+    // children of every element taken so far, O(k*d*log(k*d))
+    public List<T> topK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be >= 0");
+        }
+        int count = Math.min(k, size);
+        List<T> top = new ArrayList<>(count);
+        if (count == 0) {
+            return top;
+        }
+
+        PriorityQueue<Integer> frontier = new PriorityQueue<>(d * count, (i, j) -> heap[i].compareTo(heap[j]));
+        frontier.add(0);
+        while (top.size() < count) {
+            int i = frontier.poll();
+            top.add(heap[i]);
+            int from = child[i];
+            int to = Math.min(size, from + d);
+            for (int j = from; j < to; j++) {
+                frontier.add(j);
+            }
+        }
+        return top;
+    }
+
+    // add all the elements to the heap. When the batch is large compared to the
+    // heap the elements are appended and the whole heap is heapified in O(n + m)
+    // instead of swimming each of them in O(m*log(n + m))
+    public void addAll(Collection<T> elements) {
+        int m = elements.size();
+        if (size + m > heap.length) {
+            throw new IllegalStateException("Heap can not hold " + m + " more elements");
+        }
+        for (T elem : elements) {
+            if (elem == null) {
+                throw new IllegalArgumentException();
+            }
+        }
+
+        if (!HeapCost.shouldHeapify(size, m)) {
+            for (T elem : elements) {
+                add(elem);
+            }
+            return;
+        }
+
+        for (T elem : elements) {
+            heap[size++] = elem;
+        }
+        heapify();
+    }
+
+    // remove first occurrence of an element from the heap, O(n)
     @Override
     public boolean remove(T elem) {
-        throw new UnsupportedOperationException();
+        if (elem == null) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (elem.equals(heap[i])) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // fill the hole at i with the last element and move it to its place
+    private void removeAt(int i) {
+        heap[i] = heap[--size];
+        heap[size] = null;
+        if (i < size) {
+            sink(i);
+            swim(i);
+        }
     }
 
     @Override
@@ -89,6 +196,13 @@ public class DHeap<T extends Comparable<T>> implements Heap<T> {
         return false;
     }
 
+    // sink every internal node from the last one up to the root, O(n)
+    private void heapify() {
+        for (int i = size > 0 ? parent[size - 1] : -1; i >= 0; i--) {
+            sink(i);
+        }
+    }
+
     // sink/bubble down the node at i to it's correct position
     private void sink(int i) {
         for (int j = minChild(i); j != -1;) {
@@ -0,0 +1,64 @@
+package com.inders.dsa.datastructures.priorityqueue;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Cost model shared by the array heaps to choose between updating the heap one
+// element at a time, O(log(n)) per element, and rebuilding it with a single
+// bottom up heapify, O(n) for the whole heap, plus the selection used by the
+// bulk polls.
+final class HeapCost {
+
+    private HeapCost() {
+    }
+
+    // adding m elements one by one to a heap of n costs about m * log(n + m)
+    // steps while appending them and heapifying costs about n + m steps
+    static boolean shouldHeapify(int n, int m) {
+        return (long) m * log2(n + m) > (long) n + m;
+    }
+
+    // polling k elements one by one from a heap of n costs about 2 * k * log(n)
+    // comparisons while selecting them, sorting them and heapifying the rest
+    // costs about 5 * n + k * log(k)
+    static boolean shouldRebuild(int n, int k) {
+        return 2L * k * log2(n) > 5L * n + (long) k * log2(k);
+    }
+
+    private static int log2(int n) {
+        return 31 - Integer.numberOfLeadingZeros(Math.max(1, n));
+    }
+
+    // quickselect: reorders the first n elements so that the k smallest come
+    // first, in no particular order, O(n) expected
+    static <T extends Comparable<T>> void select(T[] a, int k, int n) {
+        int lo = 0, hi = n - 1;
+        while (lo < hi) {
+            T pivot = a[lo + ThreadLocalRandom.current().nextInt(hi - lo + 1)];
+            // three way partition into < pivot, == pivot and > pivot
+            int lt = lo, i = lo, gt = hi;
+            while (i <= gt) {
+                int cmp = a[i].compareTo(pivot);
+                if (cmp < 0) {
+                    swap(a, lt++, i++);
+                } else if (cmp > 0) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            if (k <= lt) {
+                hi = lt - 1;
+            } else if (k > gt + 1) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static <T> void swap(T[] a, int i, int j) {
+        T temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+}
@@ -0,0 +1,303 @@
+package com.inders.dsa.datastructures.priorityqueue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.LongSupplier;
+
+// Hierarchical timing wheel for large numbers of timeouts, using the same
+// timer index (ti) api style as IndexedDHeap. Time is measured in ticks read
+// from a caller supplied clock, so it can be driven by a fake clock in tests.
+//
+// There are LEVELS wheels of WHEEL_SIZE slots, level l covers deadlines which
+// differ from the current tick only in the lowest 8 * (l + 1) bits. A timer is
+// put in the slot of the highest level digit in which its deadline differs from
+// the current tick, and is moved (cascaded) to a lower level when the current
+// tick reaches its slot. Deadlines more than 2^32 ticks away go into an
+// IndexedDHeap fallback and are moved into the wheels once they come in range.
+//
+// schedule and cancel are O(1) (O(log(n)) for far future deadlines) and advance
+// costs O(1) per tick passed plus O(1) per expired or cascaded timer. Timers
+// scheduled with a deadline in the past are sorted when they are returned,
+// O(log(k)) each for k of them.
+@SuppressWarnings("unchecked")
+public class HierarchicalTimingWheel<T> {
+
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+
+    // deadlines that differ from the current tick in these bits go into the heap
+    private static final long WHEELS_MASK = -1L << (WHEEL_BITS * LEVELS);
+
+    // slot holding timers which are already due but not yet returned by advance
+    private static final int DUE = LEVELS * WHEEL_SIZE;
+
+    // slot value for timers stored in the far future heap
+    private static final int FAR = -2;
+
+    // slot value for unused timer indexes
+    private static final int NONE = -1;
+
+    // source of the current tick
+    private final LongSupplier clock;
+
+    // max number of timers
+    private final int n;
+
+    // number of scheduled timers
+    private int size;
+
+    // number of timers in the wheels and the due list, excluding the heap
+    private int inWheels;
+
+    // the last tick processed by advance
+    private long now;
+
+    // first timer of each slot, -1 for an empty slot
+    private final int[] head = new int[LEVELS * WHEEL_SIZE + 1];
+
+    // slot of each timer index or NONE/FAR
+    private final int[] slot;
+
+    // doubly linked lists of the timers in each slot
+    private final int[] next;
+    private final int[] prev;
+
+    // deadline and payload of each timer
+    private final long[] deadline;
+    private final Object[] payload;
+
+    // timers too far in the future for the wheels, ordered by deadline
+    private final IndexedDHeap<Long> far;
+
+    public HierarchicalTimingWheel(int maxTimers, LongSupplier clock) {
+        if (maxTimers <= 0 || clock == null) {
+            throw new IllegalArgumentException();
+        }
+        this.clock = clock;
+        n = maxTimers;
+        now = clock.getAsLong();
+
+        slot = new int[n];
+        next = new int[n];
+        prev = new int[n];
+        deadline = new long[n];
+        payload = new Object[n];
+        far = new IndexedDHeap<>(4, n);
+
+        for (int i = 0; i < n; i++) {
+            slot[i] = NONE;
+        }
+        for (int i = 0; i < head.length; i++) {
+            head[i] = -1;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // returns the last tick processed by advance
+    public long now() {
+        return now;
+    }
+
+    public boolean contains(int ti) {
+        isTimerInboundOrThrow(ti);
+        return slot[ti] != NONE;
+    }
+
+    public long deadlineOf(int ti) {
+        timerExistsOrThrow(ti);
+        return deadline[ti];
+    }
+
+    // schedule timer ti to expire at the absolute tick 'at'. A deadline which
+    // has already passed expires on the next call to advance
+    public void schedule(int ti, long at, T value) {
+        if (contains(ti)) {
+            throw new IllegalArgumentException("Timer index " + ti + " already exists!");
+        }
+        deadline[ti] = at;
+        payload[ti] = value;
+        place(ti);
+        size++;
+    }
+
+    // cancel timer ti and return its payload, returns null if ti is not scheduled
+    public T cancel(int ti) {
+        if (!contains(ti)) {
+            return null;
+        }
+        if (slot[ti] == FAR) {
+            far.delete(ti);
+            slot[ti] = NONE;
+        } else {
+            unlink(ti);
+        }
+        size--;
+        T value = (T) payload[ti];
+        payload[ti] = null;
+        return value;
+    }
+
+    // move the wheel forward to the tick returned by the clock and return the
+    // payloads of every timer due by then, in non decreasing deadline order.
+    // timers with equal deadlines can come in any order
+    public List<T> advance() {
+        List<T> expired = new ArrayList<>();
+        advance(clock.getAsLong(), expired);
+        return expired;
+    }
+
+    private void advance(long target, List<T> expired) {
+        drainDue(expired);
+        while (now < target) {
+            if (inWheels == 0) {
+                // nothing in the wheels, jump to the target or to the first
+                // tick at which the earliest far timer comes in range
+                long jump = target;
+                if (!far.isEmpty()) {
+                    jump = Math.min(jump, Math.max(now + 1, far.peekValue() & WHEELS_MASK));
+                }
+                now = jump;
+            } else {
+                now++;
+            }
+            cascade();
+            // timers cascaded or pulled in with a deadline of exactly now are in the due list
+            drain(DUE, expired);
+            drain(now & WHEEL_MASK, expired);
+        }
+    }
+
+    // move timers whose slot has been reached into lower levels. The slot of level
+    // l is reached when all the lower digits of the current tick become zero
+    private void cascade() {
+        if ((now & ~WHEELS_MASK) == 0 || inWheels == 0) {
+            pullFar();
+        }
+        for (int level = 1; level < LEVELS; level++) {
+            long lower = now & ((1L << (WHEEL_BITS * level)) - 1);
+            if (lower != 0) {
+                break;
+            }
+            int s = level * WHEEL_SIZE + (int) ((now >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+            int ti = head[s];
+            head[s] = -1;
+            while (ti != -1) {
+                int nxt = next[ti];
+                inWheels--;
+                place(ti);
+                ti = nxt;
+            }
+        }
+    }
+
+    // move far timers which are now in range of the wheels into the wheels
+    private void pullFar() {
+        while (!far.isEmpty() && ((far.peekValue() ^ now) & WHEELS_MASK) == 0) {
+            int ti = far.pollKeyIndex();
+            place(ti);
+        }
+    }
+
+    // return the timers in the due list as expired in deadline order. Timers
+    // scheduled with a deadline in the past can have any deadline up to now, so
+    // they are sorted first, equal deadlines keep their schedule order
+    private void drainDue(List<T> expired) {
+        if (head[DUE] == -1) {
+            return;
+        }
+        List<Integer> due = new ArrayList<>();
+        for (int ti = head[DUE]; ti != -1; ti = next[ti]) {
+            due.add(ti);
+        }
+        // push adds to the head so the list is in reverse schedule order
+        Collections.reverse(due);
+        due.sort(Comparator.comparingLong(ti -> deadline[ti]));
+        for (int ti : due) {
+            unlink(ti);
+            size--;
+            expired.add((T) payload[ti]);
+            payload[ti] = null;
+        }
+    }
+
+    // return all the timers of level 0 slot s (or the due list) as expired.
+    // every timer in the slot of the current tick has a deadline of exactly now
+    private void drain(long s, List<T> expired) {
+        int ti = head[(int) s];
+        while (ti != -1) {
+            int nxt = next[ti];
+            unlink(ti);
+            size--;
+            expired.add((T) payload[ti]);
+            payload[ti] = null;
+            ti = nxt;
+        }
+    }
+
+    // put timer ti into the slot for its deadline relative to the current tick
+    private void place(int ti) {
+        long at = deadline[ti];
+        if (at <= now) {
+            push(ti, DUE);
+            return;
+        }
+        long diff = at ^ now;
+        if ((diff & WHEELS_MASK) != 0) {
+            slot[ti] = FAR;
+            far.insert(ti, at);
+            return;
+        }
+        int level = (Long.SIZE - 1 - Long.numberOfLeadingZeros(diff)) / WHEEL_BITS;
+        push(ti, level * WHEEL_SIZE + (int) ((at >>> (WHEEL_BITS * level)) & WHEEL_MASK));
+    }
+
+    private void push(int ti, int s) {
+        int first = head[s];
+        next[ti] = first;
+        prev[ti] = -1;
+        if (first != -1) {
+            prev[first] = ti;
+        }
+        head[s] = ti;
+        slot[ti] = s;
+        inWheels++;
+    }
+
+    private void unlink(int ti) {
+        int p = prev[ti], q = next[ti];
+        if (p == -1) {
+            head[slot[ti]] = q;
+        } else {
+            next[p] = q;
+        }
+        if (q != -1) {
+            prev[q] = p;
+        }
+        slot[ti] = NONE;
+        inWheels--;
+    }
+
+    private void timerExistsOrThrow(int ti) {
+        if (!contains(ti)) {
+            throw new NoSuchElementException("Timer index does not exist : " + ti);
+        }
+    }
+
+    private void isTimerInboundOrThrow(int ti) {
+        if (0 > ti || ti >= n) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.inders.dsa.datastructures.priorityqueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// Indexed min pairing heap with the same key index api as IndexedDHeap.
+// insert and decrease are O(1) amortized, poll and delete are O(log(n)) amortized.
+// Every key index is a node of the heap and the tree links are kept in int arrays
+// indexed by key index, so no node objects are allocated.
+@SuppressWarnings("unchecked")
+public class IndexedPairingHeap<T extends Comparable<T>> {
+
+    // number of nodes in the heap
+    private int size;
+
+    // max number of nodes that this heap can have
+    private final int n;
+
+    // key index of the root node, -1 when the heap is empty
+    private int root = -1;
+
+    // key index of the leftmost child for each key index
+    private final int[] child;
+
+    // key index of the right sibling for each key index
+    private final int[] sibling;
+
+    // key index of the left sibling, or of the parent for a leftmost child
+    private final int[] prev;
+
+    // contains value for each key index(ki)
+    private final Object[] values;
+
+    // scratch space used while merging the children of a removed node
+    private final int[] pairs;
+
+    public IndexedPairingHeap(int maxNodes) {
+        if (maxNodes <= 0) {
+            throw new IllegalArgumentException();
+        }
+        n = maxNodes;
+        size = 0;
+
+        child = new int[n];
+        sibling = new int[n];
+        prev = new int[n];
+        values = new Object[n];
+        pairs = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            child[i] = sibling[i] = prev[i] = -1;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int ki) {
+        isKeyInboundOrThrow(ki);
+        return values[ki] != null; // null means there is no node corresponding to this ki
+    }
+
+    public int peekKeyIndex() {
+        isNotEmptyOrThrow();
+        return root;
+    }
+
+    public int pollKeyIndex() {
+        int minKey = peekKeyIndex();
+        delete(minKey);
+        return minKey;
+    }
+
+    public T peekValue() {
+        int minKey = peekKeyIndex();
+        return (T) values[minKey];
+    }
+
+    public T pollValue() {
+        int minKey = peekKeyIndex();
+        return delete(minKey);
+    }
+
+    public void insert(int ki, T value) {
+        if (contains(ki)) {
+            throw new IllegalArgumentException("Key index " + ki + " already exists!");
+        }
+        valueNotNullOrThrow(value);
+        values[ki] = value;
+        root = link(root, ki);
+        size++;
+    }
+
+    public T valueOf(int ki) {
+        keyExistsOrThrow(ki);
+        return (T) values[ki];
+    }
+
+    public T update(int ki, T newValue) {
+        keyExistsAndValueNotNullOrThrow(ki, newValue);
+
+        final T oldValue = (T) values[ki];
+        values[ki] = newValue;
+        if (less(newValue, oldValue)) {
+            moveUp(ki);
+        } else {
+            moveDown(ki);
+        }
+        return oldValue;
+    }
+
+    public T delete(int ki) {
+        keyExistsOrThrow(ki);
+        detach(ki);
+        T removedNode = (T) values[ki];
+        values[ki] = null;
+        size--;
+        return removedNode;
+    }
+
+    // Strictly decreases the value associated with 'ki' to 'value'
+    public void decrease(int ki, T value) {
+        keyExistsAndValueNotNullOrThrow(ki, value);
+        if (less(value, values[ki])) {
+            values[ki] = value;
+            moveUp(ki);
+        }
+    }
+
+    // Strictly increases the value associated with 'ki' to 'value'
+    public void increase(int ki, T value) {
+        keyExistsAndValueNotNullOrThrow(ki, value);
+        if (less(values[ki], value)) {
+            values[ki] = value;
+            moveDown(ki);
+        }
+    }
+
+    @Override
+    public String toString() {
+        List<Integer> lst = new ArrayList<>(size);
+        for (int i = 0; i < n; i++) {
+            if (values[i] != null) {
+                lst.add(i);
+            }
+        }
+        return lst.toString();
+    }
+
+    // the value of ki got smaller, so its subtree is still heap ordered and
+    // only the subtree has to be cut and linked back with the root, O(1)
+    private void moveUp(int ki) {
+        if (ki != root) {
+            cut(ki);
+            root = link(root, ki);
+        }
+    }
+
+    // the value of ki got larger, so ki may now be greater than its children.
+    // take ki out of the heap and link it back as a single node, O(log(n)) amortized
+    private void moveDown(int ki) {
+        detach(ki);
+        root = link(root, ki);
+    }
+
+    // removes node ki from the heap, its children are merged back into the heap
+    private void detach(int ki) {
+        int children = mergePairs(child[ki]);
+        child[ki] = -1;
+        if (ki == root) {
+            root = children;
+        } else {
+            cut(ki);
+            root = link(root, children);
+        }
+    }
+
+    // cut the subtree rooted at ki from its parent, ki must not be the root
+    private void cut(int ki) {
+        int left = prev[ki], right = sibling[ki];
+        if (child[left] == ki) {
+            // ki is the leftmost child of its parent
+            child[left] = right;
+        } else {
+            sibling[left] = right;
+        }
+        if (right != -1) {
+            prev[right] = left;
+        }
+        prev[ki] = sibling[ki] = -1;
+    }
+
+    // link the two heap ordered trees rooted at a and b and return the new root.
+    // the tree with the greater root becomes the leftmost child of the other one
+    private int link(int a, int b) {
+        if (a == -1) return b;
+        if (b == -1) return a;
+        if (less(values[b], values[a])) {
+            int temp = a;
+            a = b;
+            b = temp;
+        }
+        int first = child[a];
+        sibling[b] = first;
+        if (first != -1) {
+            prev[first] = b;
+        }
+        prev[b] = a;
+        child[a] = b;
+        return a;
+    }
+
+    // two pass pairing of the sibling list starting at first and return the new root.
+    // first pass links the siblings in pairs from left to right, second pass links
+    // the resulting trees from right to left
+    private int mergePairs(int first) {
+        int count = 0;
+        for (int i = first; i != -1; ) {
+            int a = i, b = sibling[a];
+            if (b == -1) {
+                prev[a] = sibling[a] = -1;
+                pairs[count++] = a;
+                break;
+            }
+            i = sibling[b];
+            prev[a] = sibling[a] = prev[b] = sibling[b] = -1;
+            pairs[count++] = link(a, b);
+        }
+
+        int merged = -1;
+        while (count > 0) {
+            merged = link(pairs[--count], merged);
+        }
+        return merged;
+    }
+
+    // returns true if obj1 is less than obj2
+    private boolean less(Object obj1, Object obj2) {
+        return ((Comparable<? super T>) obj1).compareTo((T) obj2) < 0;
+    }
+
+    private void keyExistsAndValueNotNullOrThrow(int ki, Object value) {
+        keyExistsOrThrow(ki);
+        valueNotNullOrThrow(value);
+    }
+
+    private void valueNotNullOrThrow(Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value cannot be null");
+        }
+    }
+
+    private void keyExistsOrThrow(int ki) {
+        if (!contains(ki)) {
+            throw new NoSuchElementException("Key index does not exist : " + ki);
+        }
+    }
+
+    private void isNotEmptyOrThrow() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty!!");
+        }
+    }
+
+    private void isKeyInboundOrThrow(int ki) {
+        if (0 > ki || ki >= n) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    public boolean isMinHeap() {
+        return root == -1 || isMinHeap(root);
+    }
+
+    private boolean isMinHeap(int ki) {
+        for (int j = child[ki]; j != -1; j = sibling[j]) {
+            if (less(values[j], values[ki])) return false;
+            if (!isMinHeap(j)) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,244 @@
+package com.inders.dsa.datastructures.priorityqueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// Indexed monotone min radix heap with the same key index api as IndexedDHeap.
+// Priorities are non-negative longs and must never be smaller than the last
+// polled priority, which is always the case for Dijkstra style workloads.
+// insert and decrease are O(1), poll is O(log(C)) amortized where C is the
+// largest difference between two priorities present at the same time. peek
+// does not move the last polled priority, so it scans the lowest non empty
+// bucket when the minimum has not been pulled into bucket 0 yet.
+public class IndexedRadixHeap {
+
+    // one bucket for keys equal to last and one bucket per differing highest bit
+    private static final int BUCKETS = Long.SIZE + 1;
+
+    // number of nodes in the heap
+    private int size;
+
+    // max number of nodes that this heap can have
+    private final int n;
+
+    // the last polled priority, all priorities in the heap are >= last
+    private long last;
+
+    // first key index of each bucket, -1 for an empty bucket
+    private final int[] head = new int[BUCKETS];
+
+    // bucket of each key index, -1 means there is no node for this ki
+    private final int[] bucket;
+
+    // doubly linked lists of key indexes within each bucket
+    private final int[] next;
+    private final int[] prev;
+
+    // contains priority for each key index(ki)
+    private final long[] values;
+
+    public IndexedRadixHeap(int maxNodes) {
+        if (maxNodes <= 0) {
+            throw new IllegalArgumentException();
+        }
+        n = maxNodes;
+        size = 0;
+
+        bucket = new int[n];
+        next = new int[n];
+        prev = new int[n];
+        values = new long[n];
+
+        for (int i = 0; i < n; i++) {
+            bucket[i] = next[i] = prev[i] = -1;
+        }
+        for (int i = 0; i < BUCKETS; i++) {
+            head[i] = -1;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int ki) {
+        isKeyInboundOrThrow(ki);
+        return bucket[ki] != -1; // -1 means there is no node corresponding to this ki
+    }
+
+    // returns the last polled priority, new priorities can not be smaller than this
+    public long lastPolled() {
+        return last;
+    }
+
+    public int peekKeyIndex() {
+        isNotEmptyOrThrow();
+        if (head[0] != -1) {
+            return head[0];
+        }
+        return minOf(lowestBucket());
+    }
+
+    public int pollKeyIndex() {
+        isNotEmptyOrThrow();
+        if (head[0] == -1) {
+            redistribute();
+        }
+        int minKey = head[0];
+        delete(minKey);
+        return minKey;
+    }
+
+    public long peekValue() {
+        int minKey = peekKeyIndex();
+        return values[minKey];
+    }
+
+    public long pollValue() {
+        int minKey = pollKeyIndex();
+        return values[minKey];
+    }
+
+    public void insert(int ki, long value) {
+        if (contains(ki)) {
+            throw new IllegalArgumentException("Key index " + ki + " already exists!");
+        }
+        valueIsMonotoneOrThrow(value);
+        values[ki] = value;
+        push(ki);
+        size++;
+    }
+
+    public long valueOf(int ki) {
+        keyExistsOrThrow(ki);
+        return values[ki];
+    }
+
+    public long delete(int ki) {
+        keyExistsOrThrow(ki);
+        unlink(ki);
+        size--;
+        return values[ki];
+    }
+
+    // Strictly decreases the value associated with 'ki' to 'value'
+    public void decrease(int ki, long value) {
+        keyExistsOrThrow(ki);
+        valueIsMonotoneOrThrow(value);
+        if (value < values[ki]) {
+            unlink(ki);
+            values[ki] = value;
+            push(ki);
+        }
+    }
+
+    @Override
+    public String toString() {
+        List<Integer> lst = new ArrayList<>(size);
+        for (int b = 0; b < BUCKETS; b++) {
+            for (int ki = head[b]; ki != -1; ki = next[ki]) {
+                lst.add(ki);
+            }
+        }
+        return lst.toString();
+    }
+
+    // find the minimum of the first non empty bucket, make it the new last
+    // value and move every key of that bucket into a lower bucket. Every key
+    // of the bucket moves down at least one bucket so the cost is amortized
+    // over the O(log(C)) buckets a key can pass through.
+    private void redistribute() {
+        int b = lowestBucket();
+        last = values[minOf(b)];
+
+        int ki = head[b];
+        head[b] = -1;
+        while (ki != -1) {
+            int nxt = next[ki];
+            push(ki);
+            ki = nxt;
+        }
+    }
+
+    // index of the first non empty bucket, heap must not be empty
+    private int lowestBucket() {
+        int b = 0;
+        while (head[b] == -1) {
+            b++;
+        }
+        return b;
+    }
+
+    // key index with the smallest priority in bucket b
+    private int minOf(int b) {
+        int min = head[b];
+        for (int ki = next[min]; ki != -1; ki = next[ki]) {
+            if (values[ki] < values[min]) {
+                min = ki;
+            }
+        }
+        return min;
+    }
+
+    // bucket for a priority, keys equal to last go into bucket 0 and others
+    // go into the bucket of the highest bit in which they differ from last
+    private int bucketOf(long value) {
+        return value == last ? 0 : Long.SIZE - Long.numberOfLeadingZeros(value ^ last);
+    }
+
+    // add ki to the front of the bucket of its priority
+    private void push(int ki) {
+        int b = bucketOf(values[ki]);
+        int first = head[b];
+        next[ki] = first;
+        prev[ki] = -1;
+        if (first != -1) {
+            prev[first] = ki;
+        }
+        head[b] = ki;
+        bucket[ki] = b;
+    }
+
+    // remove ki from the bucket it is in
+    private void unlink(int ki) {
+        int p = prev[ki], q = next[ki];
+        if (p == -1) {
+            head[bucket[ki]] = q;
+        } else {
+            next[p] = q;
+        }
+        if (q != -1) {
+            prev[q] = p;
+        }
+        bucket[ki] = next[ki] = prev[ki] = -1;
+    }
+
+    private void valueIsMonotoneOrThrow(long value) {
+        if (value < last) {
+            throw new IllegalArgumentException("value " + value + " is smaller than the last polled value " + last);
+        }
+    }
+
+    private void keyExistsOrThrow(int ki) {
+        if (!contains(ki)) {
+            throw new NoSuchElementException("Key index does not exist : " + ki);
+        }
+    }
+
+    private void isNotEmptyOrThrow() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Heap is empty!!");
+        }
+    }
+
+    private void isKeyInboundOrThrow(int ki) {
+        if (0 > ki || ki >= n) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
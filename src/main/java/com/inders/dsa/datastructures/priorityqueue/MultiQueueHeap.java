@@ -0,0 +1,227 @@
+package com.inders.dsa.datastructures.priorityqueue;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Relaxed concurrent min heap made of several DHeaps each guarded by its own lock.
+// add pushes into a random queue and poll samples a few random queues and polls
+// the one with the smallest top element, so threads rarely fight over one lock.
+// poll returns one of the smallest elements rather than the smallest one, the
+// rank error grows with the number of queues and shrinks with the number of
+// samples. A single queue (or sampling every queue) gives strict ordering when
+// the heap is not modified concurrently.
+public final class MultiQueueHeap<T extends Comparable<T>> implements Heap<T> {
+
+    // number of queues per thread used by the default constructor
+    private static final int DEFAULT_QUEUES_PER_THREAD = 2;
+
+    // number of queues sampled by poll by default
+    private static final int DEFAULT_SAMPLES = 2;
+
+    // degree of the underlying DHeaps by default
+    private static final int DEFAULT_DEGREE = 4;
+
+    private final LockedQueue<T>[] queues;
+
+    // number of queues looked at by every poll
+    private final int samples;
+
+    // max number of elements each queue can hold
+    private final int queueCapacity;
+
+    // number of elements across all the queues
+    private final AtomicInteger size = new AtomicInteger();
+
+    // a DHeap with its lock and a copy of its top element which
+    // can be read without taking the lock
+    private static final class LockedQueue<T extends Comparable<T>> {
+        final ReentrantLock lock = new ReentrantLock();
+        final DHeap<T> heap;
+        volatile T top;
+
+        LockedQueue(int degree, int capacity) {
+            heap = new DHeap<>(degree, capacity);
+        }
+    }
+
+    // creates c * p queues where p is the number of available processors
+    public MultiQueueHeap(int queueCapacity) {
+        this(DEFAULT_QUEUES_PER_THREAD * Runtime.getRuntime().availableProcessors(),
+                DEFAULT_SAMPLES, DEFAULT_DEGREE, queueCapacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    public MultiQueueHeap(int nQueues, int samples, int degree, int queueCapacity) {
+        if (nQueues <= 0 || samples <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.samples = Math.min(samples, nQueues);
+        this.queueCapacity = queueCapacity;
+        queues = (LockedQueue<T>[]) new LockedQueue<?>[nQueues];
+        for (int i = 0; i < nQueues; i++) {
+            queues[i] = new LockedQueue<>(degree, queueCapacity);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    // clears every queue, elements added concurrently with clear may survive it
+    @Override
+    public void clear() {
+        for (LockedQueue<T> q : queues) {
+            q.lock.lock();
+            try {
+                size.addAndGet(-q.heap.size());
+                q.heap.clear();
+                q.top = null;
+            } finally {
+                q.lock.unlock();
+            }
+        }
+    }
+
+    // add an element to a random queue which is not locked by another thread
+    @Override
+    public void add(T elem) {
+        if (elem == null) {
+            throw new IllegalArgumentException();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int fullQueues = 0;
+        while (true) {
+            LockedQueue<T> q = queues[random.nextInt(queues.length)];
+            if (!q.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (q.heap.size() < queueCapacity) {
+                    q.heap.add(elem);
+                    q.top = q.heap.peek();
+                    size.incrementAndGet();
+                    return;
+                }
+            } finally {
+                q.lock.unlock();
+            }
+            if (++fullQueues > 2 * queues.length && isFull()) {
+                throw new IllegalStateException("Heap is full");
+            }
+        }
+    }
+
+    // returns the smallest top element over all the queues, this is
+    // only a snapshot when other threads modify the heap concurrently
+    @Override
+    public T peek() {
+        T min = null;
+        for (LockedQueue<T> q : queues) {
+            T top = q.top;
+            if (top != null && (min == null || top.compareTo(min) < 0)) {
+                min = top;
+            }
+        }
+        return min;
+    }
+
+    // removes and returns one of the smallest elements in the heap
+    // null is returned if heap is empty
+    @Override
+    public T poll() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (!isEmpty()) {
+            // sample queues and pick the one with the smallest top
+            LockedQueue<T> best = null;
+            T bestTop = null;
+            for (int i = 0; i < samples; i++) {
+                // sampling every queue makes the poll strict
+                LockedQueue<T> q = samples == queues.length ? queues[i] : queues[random.nextInt(queues.length)];
+                T top = q.top;
+                if (top != null && (bestTop == null || top.compareTo(bestTop) < 0)) {
+                    best = q;
+                    bestTop = top;
+                }
+            }
+
+            if (best == null) {
+                // every sampled queue was empty, fall back to the first non-empty one
+                best = firstNonEmpty();
+                if (best == null) {
+                    continue;
+                }
+            }
+
+            if (!best.lock.tryLock()) {
+                continue;
+            }
+            try {
+                T elem = best.heap.poll();
+                if (elem != null) {
+                    best.top = best.heap.peek();
+                    size.decrementAndGet();
+                    return elem;
+                }
+            } finally {
+                best.lock.unlock();
+            }
+        }
+        return null;
+    }
+
+    // removes one occurrence of elem from the first queue holding it, O(n)
+    @Override
+    public boolean remove(T elem) {
+        if (elem == null) {
+            return false;
+        }
+        for (LockedQueue<T> q : queues) {
+            q.lock.lock();
+            try {
+                if (q.heap.remove(elem)) {
+                    q.top = q.heap.peek();
+                    size.decrementAndGet();
+                    return true;
+                }
+            } finally {
+                q.lock.unlock();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(T elem) {
+        for (LockedQueue<T> q : queues) {
+            q.lock.lock();
+            try {
+                if (q.heap.contains(elem)) {
+                    return true;
+                }
+            } finally {
+                q.lock.unlock();
+            }
+        }
+        return false;
+    }
+
+    private LockedQueue<T> firstNonEmpty() {
+        for (LockedQueue<T> q : queues) {
+            if (q.top != null) {
+                return q;
+            }
+        }
+        return null;
+    }
+
+    private boolean isFull() {
+        return size() >= queueCapacity * queues.length;
+    }
+}
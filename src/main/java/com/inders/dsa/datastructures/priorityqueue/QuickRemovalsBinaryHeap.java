@@ -1,17 +1,20 @@
 package com.inders.dsa.datastructures.priorityqueue;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
+@SuppressWarnings("unchecked")
 public class QuickRemovalsBinaryHeap<T extends Comparable<T>> implements Heap<T> {
 
-    // list to store elements in the heap
-    private final List<T> heap;
+    // array to store elements in the heap, grown manually when full
+    private T[] heap;
+
+    // number of elements in the heap
+    private int size;
 
     // hash map to store indexes for each element. This will make removals
     // from O(n) to O(log(n)) and O(1) containment check directly on the map.
@@ -24,54 +27,48 @@ public class QuickRemovalsBinaryHeap<T extends Comparable<T>> implements Heap<T>
 
     // initialize heap with a certain capacity
     public QuickRemovalsBinaryHeap(int capacity) {
-        heap = new ArrayList<>(capacity);
+        heap = (T[]) new Comparable<?>[Math.max(1, capacity)];
     }
 
     // construct a heap using heapify in O(n) linear time
     public QuickRemovalsBinaryHeap(T[] elements) {
-        int capacity = elements.length;
-        heap = new ArrayList<>(capacity);
+        this(elements.length);
 
         // add all elements to the heap
-        for (int i = 0; i < capacity; i++) {
-            heap.add(elements[i]);
-            indexMapAdd(elements[i], i);
+        for (T elem : elements) {
+            indexMapAdd(elem, size);
+            heap[size++] = elem;
         }
 
-        // heapify process : http://www.cs.umd.edu/~meesh/351/mount/lectures/lect14-heapsort-analysis-part.pdf
-        for (int i = Math.max(0, (capacity / 2) - 1); i >= 0; i--) {
-            sink(i);
-        }
+        heapify();
     }
 
     public QuickRemovalsBinaryHeap(Collection<T> elements) {
-        int capacity = elements.size();
-        heap = new ArrayList<>(capacity);
+        this(elements.size());
 
         // add all elements to the heap
         for (T elem : elements) {
-            add(elem);
+            indexMapAdd(elem, size);
+            heap[size++] = elem;
         }
 
-        // heapify process : http://www.cs.umd.edu/~meesh/351/mount/lectures/lect14-heapsort-analysis-part.pdf
-        for (int i = Math.max(0, (capacity / 2) - 1); i >= 0; i--) {
-            sink(i);
-        }
+        heapify();
     }
 
     @Override
     public int size() {
-        return heap.size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return size() == 0;
+        return size == 0;
     }
 
     @Override
     public void clear() {
-        heap.clear();
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
         indexMap.clear();
     }
 
@@ -82,7 +79,7 @@ public class QuickRemovalsBinaryHeap<T extends Comparable<T>> implements Heap<T>
         if (isEmpty()) {
             return null;
         }
-        return heap.getFirst();
+        return heap[0];
     }
 
     // returns null if the heap is empty
@@ -98,10 +95,10 @@ public class QuickRemovalsBinaryHeap<T extends Comparable<T>> implements Heap<T>
         if (elem == null) {
             throw new IllegalArgumentException();
         }
-        heap.add(elem);// add elem at the last of the list
-        int lastIndex = size() - 1;
-        indexMapAdd(elem, lastIndex); // and new elem index mapping to index map
-        swim(lastIndex); // bubble up/swim the last node to it's correct place
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, 2 * heap.length);
+        }
+        swim(size++, elem); // bubble up/swim the new node from the last index to it's correct place
     }
 
     // Test if an element is in heap, O(1)
@@ -131,15 +128,13 @@ public class QuickRemovalsBinaryHeap<T extends Comparable<T>> implements Heap<T>
         }
 
         // store the node to be removed
-        T removedNode = heap.get(i);
-
-        int lastIndex = size() - 1;
-        // swap this node with the last node
-        swap(i, lastIndex);
+        T removedNode = heap[i];
+        indexMapRemove(removedNode, i);
 
-        // remove the last node from the heap
-        heap.remove(lastIndex);
-        indexMapRemove(removedNode, lastIndex);
+        // take out the last node and clear the last index
+        int lastIndex = --size;
+        T last = heap[lastIndex];
+        heap[lastIndex] = null;
 
         // if node removed was last then simply return the value
         // no need to sink/swim
@@ -147,69 +142,86 @@ public class QuickRemovalsBinaryHeap<T extends Comparable<T>> implements Heap<T>
             return removedNode;
         }
 
-        T elem = heap.get(i);
-        sink(i); // try sinking element
-
-        if (heap.get(i).equals(elem)) {
-            // if sinking did not work, try swimming
-            swim(i);
+        // fill the hole at i with the last node
+        indexMapRemove(last, lastIndex);
+        if (sink(i, last) == i) {
+            // if sinking did not work, take it out of the hole again and try swimming
+            indexMapRemove(last, i);
+            swim(i, last);
         }
 
         return removedNode;
     }
 
-    private void sink(int i) {
-        int size = size();
+    // heapify process : http://www.cs.umd.edu/~meesh/351/mount/lectures/lect14-heapsort-analysis-part.pdf
+    private void heapify() {
+        for (int i = Math.max(0, (size / 2) - 1); i >= 0; i--) {
+            T elem = heap[i];
+            indexMapRemove(elem, i);
+            sink(i, elem);
+        }
+    }
+
+    // move the hole at i down the tree until elem can be placed in it and
+    // return the index where elem ends up. elem must not be in the index map
+    private int sink(int i, T elem) {
         while (true) {
             int left = (2 * i) + 1; // left child
-            int right = (2 * i) + 2; // right child
+            int right = left + 1; // right child
+
+            if (left >= size) {
+                // break out of the loop if we are out of bound of the tree
+                break;
+            }
 
             int smallest = left; // assume that smallest value is left
 
-            if (right < size && less(right, smallest)) {
+            if (right < size && heap[right].compareTo(heap[left]) <= 0) {
                 smallest = right; // check and assign is smallest is right
             }
 
-            if (left >= size || less(i, smallest)) {
-                // break out of the loop if current node is smallest
-                // or we are out of bound of the tree
+            if (elem.compareTo(heap[smallest]) <= 0) {
+                // break out of the loop if elem fits in the hole
                 break;
             }
 
-            swap(smallest, i); // swap the smallest node with current node
-            i = smallest; // update current node to smallest to traverse down the tree
+            move(smallest, i); // move the smallest node up into the hole
+            i = smallest; // the hole moves down the tree
         }
+        heap[i] = elem;
+        indexMapAdd(elem, i);
+        return i;
     }
 
-    private void swim(int i) {
-        // index of the next parent node in the tree
-        int parent = (i - 1) / 2;
-
-        while (i > 0 && less(i, parent)) {
-            // while we are within the bounds of the tree
-            // and parent is greater than current node
-            swap(parent, i); // swap current and parent
-            i = parent; // update current to parent to move up the tree
-            parent = (i - 1) / 2; // update the parent to grab next parent
+    // move the hole at i up the tree until elem can be placed in it.
+    // elem must not be in the index map
+    private void swim(int i, T elem) {
+        while (i > 0) {
+            // index of the next parent node in the tree
+            int parent = (i - 1) / 2;
+            if (heap[parent].compareTo(elem) <= 0) {
+                break;
+            }
+            move(parent, i); // move the parent down into the hole
+            i = parent; // the hole moves up the tree
         }
+        heap[i] = elem;
+        indexMapAdd(elem, i);
     }
 
-    private void swap(int i, int j) {
-        T node1 = heap.get(i);
-        T node2 = heap.get(j);
-
-        heap.set(i, node2);
-        heap.set(j, node1);
-
-        indexMapSwap(node1, node2, i, j);
+    // move the node at index from into the hole at index to
+    private void move(int from, int to) {
+        T node = heap[from];
+        heap[to] = node;
+        final Set<Integer> set = indexMap.get(node);
+        set.remove(from);
+        set.add(to);
     }
 
     // Tests if the value of node i <= node j
     // This method assumes i & j are valid indices, O(1)
     private boolean less(int i, int j) {
-        T node1 = heap.get(i);
-        T node2 = heap.get(j);
-        return node1.compareTo(node2) <= 0;
+        return heap[i].compareTo(heap[j]) <= 0;
     }
 
     private void indexMapAdd(T elem, Integer index) {
@@ -226,17 +238,6 @@ public class QuickRemovalsBinaryHeap<T extends Comparable<T>> implements Heap<T>
         }
     }
 
-    private void indexMapSwap(T elem1, T elem2, int elem1Idx, int elem2Idx) {
-        final Set<Integer> set1 = indexMap.get(elem1);
-        final Set<Integer> set2 = indexMap.get(elem2);
-
-        set1.remove(elem1Idx);
-        set2.remove(elem2Idx);
-
-        set1.add(elem2Idx);
-        set2.add(elem1Idx);
-    }
-
     // Removes the index at a given element, O(log(n))
     private void indexMapRemove(T elem, int index) {
         final TreeSet<Integer> set = indexMap.get(elem);
@@ -277,6 +278,6 @@ public class QuickRemovalsBinaryHeap<T extends Comparable<T>> implements Heap<T>
 
     @Override
     public String toString() {
-        return heap.toString();
+        return Arrays.toString(Arrays.copyOf(heap, size));
     }
 }
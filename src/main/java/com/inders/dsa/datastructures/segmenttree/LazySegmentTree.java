@@ -0,0 +1,205 @@
+package com.inders.dsa.datastructures.segmenttree;
+
+// Segment tree with lazy propagation supporting range add and range assign
+// together with range sum, min and max queries, all O(log(n)).
+//
+// Every node keeps the sum, min and max of its interval plus a pending update
+// for its children: an optional assignment followed by an addition. Updates
+// stop at the nodes fully covered by the range and are only pushed further
+// down when a later operation needs to go below such a node.
+// Indexes are 0-based and intervals are inclusive like SegmentTree.
+public class LazySegmentTree {
+
+    // number of values
+    private final int n;
+
+    // aggregates of every node, the root is node 1 and node i has children 2i and 2i+1
+    private final long[] sum;
+    private final long[] min;
+    private final long[] max;
+
+    // pending updates of every node, assign (if hasAssign) and then add
+    private final boolean[] hasAssign;
+    private final long[] assign;
+    private final long[] add;
+
+    // Create a tree of sz zeros
+    public LazySegmentTree(int sz) {
+        this(new long[sz]);
+    }
+
+    // Construct a lazy segment tree over the values, O(n) construction
+    public LazySegmentTree(long[] values) {
+        if (values == null || values.length == 0) {
+            throw new IllegalArgumentException("Values array can not be null or empty");
+        }
+        n = values.length;
+        int nodes = 4 * n;
+        sum = new long[nodes];
+        min = new long[nodes];
+        max = new long[nodes];
+        hasAssign = new boolean[nodes];
+        assign = new long[nodes];
+        add = new long[nodes];
+        build(1, 0, n - 1, values);
+    }
+
+    public int size() {
+        return n;
+    }
+
+    // Returns the sum of the values in [left, right], O(log(n))
+    public long sum(int left, int right) {
+        checkRange(left, right);
+        return sum(1, 0, n - 1, left, right);
+    }
+
+    // Returns the minimum of the values in [left, right], O(log(n))
+    public long min(int left, int right) {
+        checkRange(left, right);
+        return min(1, 0, n - 1, left, right);
+    }
+
+    // Returns the maximum of the values in [left, right], O(log(n))
+    public long max(int left, int right) {
+        checkRange(left, right);
+        return max(1, 0, n - 1, left, right);
+    }
+
+    // Get the value at index i, O(log(n))
+    public long get(int i) {
+        return sum(i, i);
+    }
+
+    // Add v to every value in [left, right], O(log(n))
+    public void rangeAdd(int left, int right, long v) {
+        checkRange(left, right);
+        update(1, 0, n - 1, left, right, false, v);
+    }
+
+    // Set every value in [left, right] to v, O(log(n))
+    public void rangeAssign(int left, int right, long v) {
+        checkRange(left, right);
+        update(1, 0, n - 1, left, right, true, v);
+    }
+
+    // Set index i to be equal to v, O(log(n))
+    public void set(int i, long v) {
+        rangeAssign(i, i, v);
+    }
+
+    private void build(int node, int lo, int hi, long[] values) {
+        if (lo == hi) {
+            sum[node] = min[node] = max[node] = values[lo];
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        build(2 * node, lo, mid, values);
+        build(2 * node + 1, mid + 1, hi, values);
+        pull(node);
+    }
+
+    private void update(int node, int lo, int hi, int left, int right, boolean isAssign, long v) {
+        if (right < lo || hi < left) {
+            return;
+        }
+        if (left <= lo && hi <= right) {
+            if (isAssign) {
+                applyAssign(node, hi - lo + 1, v);
+            } else {
+                applyAdd(node, hi - lo + 1, v);
+            }
+            return;
+        }
+        push(node, lo, hi);
+        int mid = (lo + hi) >>> 1;
+        update(2 * node, lo, mid, left, right, isAssign, v);
+        update(2 * node + 1, mid + 1, hi, left, right, isAssign, v);
+        pull(node);
+    }
+
+    private long sum(int node, int lo, int hi, int left, int right) {
+        if (right < lo || hi < left) {
+            return 0L;
+        }
+        if (left <= lo && hi <= right) {
+            return sum[node];
+        }
+        push(node, lo, hi);
+        int mid = (lo + hi) >>> 1;
+        return sum(2 * node, lo, mid, left, right) + sum(2 * node + 1, mid + 1, hi, left, right);
+    }
+
+    private long min(int node, int lo, int hi, int left, int right) {
+        if (right < lo || hi < left) {
+            return Long.MAX_VALUE;
+        }
+        if (left <= lo && hi <= right) {
+            return min[node];
+        }
+        push(node, lo, hi);
+        int mid = (lo + hi) >>> 1;
+        return Math.min(min(2 * node, lo, mid, left, right), min(2 * node + 1, mid + 1, hi, left, right));
+    }
+
+    private long max(int node, int lo, int hi, int left, int right) {
+        if (right < lo || hi < left) {
+            return Long.MIN_VALUE;
+        }
+        if (left <= lo && hi <= right) {
+            return max[node];
+        }
+        push(node, lo, hi);
+        int mid = (lo + hi) >>> 1;
+        return Math.max(max(2 * node, lo, mid, left, right), max(2 * node + 1, mid + 1, hi, left, right));
+    }
+
+    // set every value under node to v, an assignment clears any pending add
+    private void applyAssign(int node, int length, long v) {
+        sum[node] = v * length;
+        min[node] = max[node] = v;
+        hasAssign[node] = true;
+        assign[node] = v;
+        add[node] = 0L;
+    }
+
+    // add v to every value under node
+    private void applyAdd(int node, int length, long v) {
+        sum[node] += v * length;
+        min[node] += v;
+        max[node] += v;
+        add[node] += v;
+    }
+
+    // move the pending updates of node down to its children
+    private void push(int node, int lo, int hi) {
+        int mid = (lo + hi) >>> 1;
+        int leftLength = mid - lo + 1, rightLength = hi - mid;
+        if (hasAssign[node]) {
+            applyAssign(2 * node, leftLength, assign[node]);
+            applyAssign(2 * node + 1, rightLength, assign[node]);
+            hasAssign[node] = false;
+        }
+        if (add[node] != 0L) {
+            applyAdd(2 * node, leftLength, add[node]);
+            applyAdd(2 * node + 1, rightLength, add[node]);
+            add[node] = 0L;
+        }
+    }
+
+    // recompute the aggregates of node from its children
+    private void pull(int node) {
+        sum[node] = sum[2 * node] + sum[2 * node + 1];
+        min[node] = Math.min(min[2 * node], min[2 * node + 1]);
+        max[node] = Math.max(max[2 * node], max[2 * node + 1]);
+    }
+
+    private void checkRange(int left, int right) {
+        if (left > right) {
+            throw new IllegalArgumentException("Make sure right >= left");
+        }
+        if (0 > left || right >= n) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.inders.dsa.datastructures.segmenttree;
+
+import java.util.function.LongBinaryOperator;
+
+// Iterative bottom-up segment tree over long values with a pluggable associative
+// combiner, e.g. sum, min, max, gcd. Unlike a Fenwick tree the combiner does not
+// need an inverse, so range min and max work as well as sums.
+//
+// The n leaves are stored at tree[n..2n-1] and node i combines its children
+// 2i and 2i+1, so the whole tree takes 2n longs and no recursion is needed.
+// Indexes are 0-based and query intervals are inclusive like the Fenwick trees.
+public class SegmentTree {
+
+    // number of values
+    private final int n;
+
+    // the tree, leaves at [n, 2n)
+    private final long[] tree;
+
+    // associative combiner and its identity, combiner(identity, x) == x
+    private final LongBinaryOperator combiner;
+    private final long identity;
+
+    // Construct a segment tree over the values, O(n) construction
+    public SegmentTree(long[] values, LongBinaryOperator combiner, long identity) {
+        if (values == null || combiner == null) {
+            throw new IllegalArgumentException("Values and combiner can not be null");
+        }
+        this.n = values.length;
+        this.combiner = combiner;
+        this.identity = identity;
+        tree = new long[2 * n];
+
+        System.arraycopy(values, 0, tree, n, n);
+        for (int i = n - 1; i > 0; i--) {
+            tree[i] = combiner.applyAsLong(tree[2 * i], tree[2 * i + 1]);
+        }
+    }
+
+    public static SegmentTree sum(long[] values) {
+        return new SegmentTree(values, Long::sum, 0L);
+    }
+
+    public static SegmentTree min(long[] values) {
+        return new SegmentTree(values, Math::min, Long.MAX_VALUE);
+    }
+
+    public static SegmentTree max(long[] values) {
+        return new SegmentTree(values, Math::max, Long.MIN_VALUE);
+    }
+
+    public int size() {
+        return n;
+    }
+
+    // Returns the combination of the values in [left, right], O(log(n))
+    public long query(int left, int right) {
+        if (left > right) {
+            throw new IllegalArgumentException("Make sure right >= left");
+        }
+        isIndexInboundOrThrow(left);
+        isIndexInboundOrThrow(right);
+
+        // combine from both ends towards the middle, keeping the left and right
+        // results apart so the combiner does not need to be commutative
+        long resLeft = identity, resRight = identity;
+        for (int l = left + n, r = right + n + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                resLeft = combiner.applyAsLong(resLeft, tree[l++]);
+            }
+            if ((r & 1) == 1) {
+                resRight = combiner.applyAsLong(tree[--r], resRight);
+            }
+        }
+        return combiner.applyAsLong(resLeft, resRight);
+    }
+
+    // Get the value at index i, O(1)
+    public long get(int i) {
+        isIndexInboundOrThrow(i);
+        return tree[i + n];
+    }
+
+    // Set index i to be equal to v, O(log(n))
+    public void set(int i, long v) {
+        isIndexInboundOrThrow(i);
+        i += n;
+        tree[i] = v;
+        for (i >>= 1; i > 0; i >>= 1) {
+            tree[i] = combiner.applyAsLong(tree[2 * i], tree[2 * i + 1]);
+        }
+    }
+
+    private void isIndexInboundOrThrow(int i) {
+        if (0 > i || i >= n) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.inders.dsa.datastructures.sparsetable;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.LongBinaryOperator;
+
+// Sparse table for range queries over an array which never changes, with an
+// idempotent combiner such as min, max, gcd, and, or (combiner(x, x) == x).
+//
+// Level k holds the combination of every interval of length 2^k, built from two
+// intervals of level k - 1 in O(n * log(n)). Any interval [left, right] is then
+// covered by the two, possibly overlapping, intervals of the largest length
+// 2^k <= right - left + 1 starting at left and ending at right, so a query is
+// O(1). The overlap is why the combiner must be idempotent, sums are not.
+// Indexes are 0-based and query intervals are inclusive like the segment trees.
+public class SparseTable {
+
+    // below this many entries a level is filled by a single task
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    // number of values
+    private final int n;
+
+    // table[k][i] is the combination of the values in [i, i + 2^k)
+    private final long[][] table;
+
+    // the idempotent combiner
+    private final LongBinaryOperator combiner;
+
+    // Construct a sparse table over the values, O(n * log(n)) construction
+    public SparseTable(long[] values, LongBinaryOperator combiner) {
+        this(values, combiner, null);
+    }
+
+    private SparseTable(long[] values, LongBinaryOperator combiner, ForkJoinPool pool) {
+        if (values == null || combiner == null) {
+            throw new IllegalArgumentException("Values and combiner can not be null");
+        }
+        this.n = values.length;
+        this.combiner = combiner;
+
+        int levels = n == 0 ? 1 : log2(n) + 1;
+        table = new long[levels][];
+        table[0] = values.clone();
+        for (int k = 1; k < levels; k++) {
+            table[k] = new long[n - (1 << k) + 1];
+            if (pool == null || table[k].length < PARALLEL_THRESHOLD) {
+                fillLevel(k, 0, table[k].length);
+            } else {
+                // every level only depends on the one below it, so the levels are
+                // built one after the other but the entries of a level in parallel
+                pool.invoke(new LevelTask(k, 0, table[k].length));
+            }
+        }
+    }
+
+    // Construct a sparse table filling every level with fork join tasks on the
+    // common pool, O(n * log(n)) work
+    public static SparseTable parallel(long[] values, LongBinaryOperator combiner) {
+        return new SparseTable(values, combiner, ForkJoinPool.commonPool());
+    }
+
+    public static SparseTable min(long[] values) {
+        return new SparseTable(values, Math::min);
+    }
+
+    public static SparseTable max(long[] values) {
+        return new SparseTable(values, Math::max);
+    }
+
+    public int size() {
+        return n;
+    }
+
+    // Returns the combination of the values in [left, right], O(1)
+    public long query(int left, int right) {
+        if (left > right) {
+            throw new IllegalArgumentException("Make sure right >= left");
+        }
+        if (0 > left || right >= n) {
+            throw new IndexOutOfBoundsException();
+        }
+        int k = log2(right - left + 1);
+        return combiner.applyAsLong(table[k][left], table[k][right - (1 << k) + 1]);
+    }
+
+    // Get the value at index i, O(1)
+    public long get(int i) {
+        return query(i, i);
+    }
+
+    // fill the entries [from, to) of level k from level k - 1
+    private void fillLevel(int k, int from, int to) {
+        long[] prev = table[k - 1], level = table[k];
+        int half = 1 << (k - 1);
+        for (int i = from; i < to; i++) {
+            level[i] = combiner.applyAsLong(prev[i], prev[i + half]);
+        }
+    }
+
+    // floor(log2(x)) for x > 0
+    private static int log2(int x) {
+        return 31 - Integer.numberOfLeadingZeros(x);
+    }
+
+    // fills [from, to) of level k, splitting the range in half until it is
+    // small. the tasks only live inside the constructor and are never serialized
+    @SuppressWarnings("serial")
+    private class LevelTask extends RecursiveAction {
+        private final int k, from, to;
+
+        LevelTask(int k, int from, int to) {
+            this.k = k;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                fillLevel(k, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new LevelTask(k, from, mid), new LevelTask(k, mid, to));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.inders.dsa.datastructures.unionfind;
+
+// Union find with the same behaviour as UnionFind but a single int[] instead of
+// separate id and sizeMap arrays, halving the memory. A non root node stores
+// its parent and a root stores the size of its component as a negative number,
+// so parent[i] < 0 marks i as a root of a component of -parent[i] nodes.
+public final class CompactUnionFind {
+
+    // number of elements in the union find
+    private final int size;
+
+    // parent of each node, or minus the component size for a root node
+    private final int[] parent;
+
+    // number of components
+    private int nComponents;
+
+    public CompactUnionFind(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.size = nComponents = size;
+        parent = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            // every node starts as a root of a component of size 1
+            parent[i] = -1;
+        }
+    }
+
+    // find and returns the root node to which node i belongs
+    public int find(int i) {
+        int root = i;
+        while (parent[root] >= 0) {
+            root = parent[root];
+        }
+
+        // path compression, point every node on the way directly to the root
+        while (i != root) {
+            int j = parent[i];
+            parent[i] = root;
+            i = j;
+        }
+
+        return root;
+    }
+
+    // return whether node i and j are connected/in the same component/set.
+    public boolean connected(int i, int j) {
+        return find(i) == find(j);
+    }
+
+    // returns size of the component node i belongs to
+    public int componentSize(int i) {
+        return -parent[find(i)];
+    }
+
+    // returns the number of elements/nodes in the UnionFind
+    public int size() {
+        return size;
+    }
+
+    // returns the number of components in the UnionFind
+    public int components() {
+        return nComponents;
+    }
+
+    // unify the components/sets to which node i and j belongs to
+    public void unify(int i, int j) {
+        int root1 = find(i);
+        int root2 = find(j);
+
+        // do nothing if node i and j are already in the same group
+        if (root1 == root2) {
+            return;
+        }
+
+        // merge the smaller group into larger group, ties go to root2 like in UnionFind
+        int size1 = -parent[root1], size2 = -parent[root2];
+        if (size1 > size2) {
+            parent[root1] = -(size1 + size2);
+            parent[root2] = root1;
+        } else {
+            parent[root2] = -(size1 + size2);
+            parent[root1] = root2;
+        }
+
+        // decrement the total number of components
+        nComponents--;
+    }
+}
@@ -0,0 +1,134 @@
+package com.inders.dsa.datastructures.unionfind;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Lock free union find which can be shared between threads, based on the
+// wait-free union find of Anderson and Woll.
+//
+// Roots are linked by randomized index: every node gets a fixed pseudo random
+// priority from a hash of its index and the root with the lower priority always
+// points to the one with the higher priority, so parents only ever increase and
+// no cycles can form, while the expected tree depth stays O(log(n)). Linking
+// is a single CAS on the parent of a root, it fails and is retried if the root
+// got linked by another thread in the meantime. find does path splitting with
+// CAS, a failed CAS is simply ignored because another thread already moved the
+// node closer to its root.
+//
+// Component sizes are not tracked, as keeping them exact would need a second
+// CAS per link, so only connectivity and the number of components are offered.
+public final class ConcurrentUnionFind {
+
+    // number of elements in the union find
+    private final int size;
+
+    // parent mapping, id[i] maps to parent of i, id[i] = i is a root node
+    private final AtomicIntegerArray id;
+
+    // number of components
+    private final AtomicInteger nComponents;
+
+    public ConcurrentUnionFind(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.size = size;
+        nComponents = new AtomicInteger(size);
+        id = new AtomicIntegerArray(size);
+
+        for (int i = 0; i < size; i++) {
+            // initialize every node to be a root node
+            id.set(i, i);
+        }
+    }
+
+    // find and returns the root node to which node i belongs. Under concurrent
+    // unify the returned node may stop being a root right after it is returned
+    public int find(int i) {
+        while (true) {
+            int parent = id.get(i);
+            if (parent == i) {
+                return i;
+            }
+            int grandParent = id.get(parent);
+            if (parent == grandParent) {
+                return parent;
+            }
+            // path splitting, point i to its grandparent and move on to the
+            // parent so that every node on the path gets shortcut
+            id.compareAndSet(i, parent, grandParent);
+            i = parent;
+        }
+    }
+
+    // return whether node i and j are connected/in the same component/set.
+    // the answer is exact at some point between the call and the return
+    public boolean connected(int i, int j) {
+        while (true) {
+            int root1 = find(i);
+            int root2 = find(j);
+            if (root1 == root2) {
+                return true;
+            }
+            // root1 and root2 were roots at the same time if root1 is still a root,
+            // otherwise another thread linked it so look again
+            if (id.get(root1) == root1) {
+                return false;
+            }
+        }
+    }
+
+    // returns the number of elements/nodes in the UnionFind
+    public int size() {
+        return size;
+    }
+
+    // returns the number of components in the UnionFind
+    public int components() {
+        return nComponents.get();
+    }
+
+    // unify the components/sets to which node i and j belongs to. Returns true
+    // if this call merged two components and false if they already were one
+    public boolean unify(int i, int j) {
+        while (true) {
+            int root1 = find(i);
+            int root2 = find(j);
+
+            // do nothing if node i and j are already in the same group
+            if (root1 == root2) {
+                return false;
+            }
+
+            // link the root with the lower priority under the other one, the
+            // CAS fails if root1 stopped being a root so find again and retry
+            if (higher(root1, root2)) {
+                int temp = root1;
+                root1 = root2;
+                root2 = temp;
+            }
+            if (id.compareAndSet(root1, root1, root2)) {
+                // decrement the total number of components
+                nComponents.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    // returns true if node i has a higher linking priority than node j
+    private static boolean higher(int i, int j) {
+        int pi = priority(i), pj = priority(j);
+        return pi != pj ? pi > pj : i > j;
+    }
+
+    // fixed pseudo random priority of node i (murmur3 integer finalizer)
+    private static int priority(int i) {
+        i ^= i >>> 16;
+        i *= 0x85ebca6b;
+        i ^= i >>> 13;
+        i *= 0xc2b2ae35;
+        i ^= i >>> 16;
+        return i;
+    }
+}
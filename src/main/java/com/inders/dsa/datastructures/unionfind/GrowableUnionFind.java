@@ -0,0 +1,120 @@
+package com.inders.dsa.datastructures.unionfind;
+
+import java.util.Arrays;
+
+// UnionFind which starts empty and grows as sets are made with makeSet(),
+// so the number of elements does not have to be known up front. The arrays
+// are doubled when full which keeps makeSet() amortized O(1).
+public final class GrowableUnionFind {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // number of elements in the union find
+    private int size;
+
+    // size of each component group
+    private int[] sizeMap;
+
+    // parent mapping, id[i] maps to parent of i, id[i] = i is a root node
+    private int[] id;
+
+    // number of components
+    private int nComponents;
+
+    public GrowableUnionFind() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GrowableUnionFind(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        sizeMap = new int[Math.max(1, capacity)];
+        id = new int[Math.max(1, capacity)];
+    }
+
+    // add a new element in its own component and return its index, amortized O(1)
+    public int makeSet() {
+        if (size == id.length) {
+            int capacity = 2 * id.length;
+            id = Arrays.copyOf(id, capacity);
+            sizeMap = Arrays.copyOf(sizeMap, capacity);
+        }
+        int i = size++;
+        // initialize the new node as a root of a component of size 1
+        id[i] = i;
+        sizeMap[i] = 1;
+        nComponents++;
+        return i;
+    }
+
+    // find and returns the root node to which node i belongs
+    public int find(int i) {
+        isNodeInboundOrThrow(i);
+        int root = i;
+        while (root != id[root]) {
+            // traverse recursively until we find a root node
+            root = id[root];
+        }
+
+        // compress the path traversing back to root node from node i
+        while (i != root) {
+            int j = id[i]; // store the next node temporarily
+            id[i] = root; // update the parent of i to root
+            i = j; // update the pointer to next node
+        }
+
+        return root;
+    }
+
+    // return whether node i and j are connected/in the same component/set.
+    public boolean connected(int i, int j) {
+        return find(i) == find(j);
+    }
+
+    // returns size of the component node i belongs to
+    public int componentSize(int i) {
+        return sizeMap[find(i)];
+    }
+
+    // returns the number of elements/nodes in the UnionFind
+    public int size() {
+        return size;
+    }
+
+    // returns the number of components in the UnionFind
+    public int components() {
+        return nComponents;
+    }
+
+    // unify the components/sets to which node i and j belongs to
+    public void unify(int i, int j) {
+        int root1 = find(i); // root node of node i
+        int root2 = find(j); // root node of node j
+
+        // do nothing if node i and j are already in the same group
+        if (root1 == root2) {
+            return;
+        }
+
+        // merge the smaller group into larger group
+        if (sizeMap[root1] > sizeMap[root2]) {
+            sizeMap[root1] += sizeMap[root2];
+            id[root2] = root1;
+            sizeMap[root2] = 0;
+        } else {
+            sizeMap[root2] += sizeMap[root1];
+            id[root1] = root2;
+            sizeMap[root1] = 0;
+        }
+
+        // decrement the total number of components
+        nComponents--;
+    }
+
+    private void isNodeInboundOrThrow(int i) {
+        if (0 > i || i >= size) {
+            throw new IndexOutOfBoundsException("Node does not exist : " + i);
+        }
+    }
+}
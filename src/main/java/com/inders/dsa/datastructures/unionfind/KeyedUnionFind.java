@@ -0,0 +1,67 @@
+package com.inders.dsa.datastructures.unionfind;
+
+import com.inders.dsa.datastructures.hashtable.HashTable;
+import com.inders.dsa.datastructures.hashtable.HashTableLinearProbing;
+
+// Union find over arbitrary keys. Every key is mapped to a dense index of a
+// GrowableUnionFind through a hash table, keys are added on first use so the
+// universe does not have to be known up front.
+public final class KeyedUnionFind<K> {
+
+    // dense index of each key in the union find
+    private final HashTable<K, Integer> index = new HashTableLinearProbing<>();
+
+    private final GrowableUnionFind uf = new GrowableUnionFind();
+
+    // add key in its own component, returns false if the key already exists
+    public boolean add(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Null key");
+        }
+        if (index.contains(key)) {
+            return false;
+        }
+        index.put(key, uf.makeSet());
+        return true;
+    }
+
+    // returns whether the key has been added
+    public boolean contains(K key) {
+        return key != null && index.contains(key);
+    }
+
+    // returns the dense index of key, adding it if it does not exist yet
+    public int indexOf(K key) {
+        add(key);
+        return index.get(key);
+    }
+
+    // return whether keys a and b are in the same component, keys which
+    // were never added are only connected to themselves
+    public boolean connected(K a, K b) {
+        if (!contains(a) || !contains(b)) {
+            return a != null && a.equals(b);
+        }
+        return uf.connected(index.get(a), index.get(b));
+    }
+
+    // returns size of the component the key belongs to, 0 for unknown keys
+    public int componentSize(K key) {
+        return contains(key) ? uf.componentSize(index.get(key)) : 0;
+    }
+
+    // returns the number of keys in the union find
+    public int size() {
+        return uf.size();
+    }
+
+    // returns the number of components in the union find
+    public int components() {
+        return uf.components();
+    }
+
+    // unify the components of keys a and b, adding the keys if needed
+    public void unify(K a, K b) {
+        uf.unify(indexOf(a), indexOf(b));
+    }
+}
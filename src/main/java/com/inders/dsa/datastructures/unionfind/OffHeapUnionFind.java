@@ -0,0 +1,129 @@
+package com.inders.dsa.datastructures.unionfind;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+// Union find for graphs too big for a java array, with the same behaviour as
+// CompactUnionFind but long node indexes and the parent array kept off heap.
+//
+// Like CompactUnionFind there is a single entry per node, holding the parent of
+// the node or minus the component size for a root. Entries are 8 byte longs so
+// that node indexes can go past Integer.MAX_VALUE. A direct ByteBuffer holds at
+// most 2^31 - 1 bytes, so the entries are split over segments of 2^SEGMENT_BITS
+// longs (1 GB each). The memory is not counted against the java heap and is
+// released when the union find is garbage collected.
+public final class OffHeapUnionFind {
+
+    private static final int SEGMENT_BITS = 27;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_BITS;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    // number of elements in the union find
+    private final long size;
+
+    // parent of each node, or minus the component size for a root node
+    private final LongBuffer[] segments;
+
+    // number of components
+    private long nComponents;
+
+    public OffHeapUnionFind(long size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.size = nComponents = size;
+        int nSegments = (int) ((size - 1) >>> SEGMENT_BITS) + 1;
+        segments = new LongBuffer[nSegments];
+
+        for (int s = 0; s < nSegments; s++) {
+            int length = (int) Math.min(SEGMENT_SIZE, size - ((long) s << SEGMENT_BITS));
+            LongBuffer segment = ByteBuffer.allocateDirect(length * Long.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asLongBuffer();
+            // every node starts as a root of a component of size 1
+            for (int k = 0; k < length; k++) {
+                segment.put(k, -1);
+            }
+            segments[s] = segment;
+        }
+    }
+
+    // find and returns the root node to which node i belongs
+    public long find(long i) {
+        isNodeInboundOrThrow(i);
+        long root = i;
+        long next;
+        while ((next = get(root)) >= 0) {
+            root = next;
+        }
+
+        // path compression, point every node on the way directly to the root
+        while (i != root) {
+            long j = get(i);
+            set(i, root);
+            i = j;
+        }
+
+        return root;
+    }
+
+    // return whether node i and j are connected/in the same component/set.
+    public boolean connected(long i, long j) {
+        return find(i) == find(j);
+    }
+
+    // returns size of the component node i belongs to
+    public long componentSize(long i) {
+        return -get(find(i));
+    }
+
+    // returns the number of elements/nodes in the UnionFind
+    public long size() {
+        return size;
+    }
+
+    // returns the number of components in the UnionFind
+    public long components() {
+        return nComponents;
+    }
+
+    // unify the components/sets to which node i and j belongs to
+    public void unify(long i, long j) {
+        long root1 = find(i);
+        long root2 = find(j);
+
+        // do nothing if node i and j are already in the same group
+        if (root1 == root2) {
+            return;
+        }
+
+        // merge the smaller group into larger group, ties go to root2 like in UnionFind
+        long size1 = -get(root1), size2 = -get(root2);
+        if (size1 > size2) {
+            set(root1, -(size1 + size2));
+            set(root2, root1);
+        } else {
+            set(root2, -(size1 + size2));
+            set(root1, root2);
+        }
+
+        // decrement the total number of components
+        nComponents--;
+    }
+
+    private long get(long i) {
+        return segments[(int) (i >>> SEGMENT_BITS)].get((int) (i & SEGMENT_MASK));
+    }
+
+    private void set(long i, long value) {
+        segments[(int) (i >>> SEGMENT_BITS)].put((int) (i & SEGMENT_MASK), value);
+    }
+
+    private void isNodeInboundOrThrow(long i) {
+        if (0 > i || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
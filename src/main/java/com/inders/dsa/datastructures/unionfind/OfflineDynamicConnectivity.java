@@ -0,0 +1,156 @@
+package com.inders.dsa.datastructures.unionfind;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Answers connectivity queries over a sequence of edge additions and removals
+// offline. The operations are recorded first and solve() answers all queries.
+//
+// Every edge is alive during an interval of operation times. The intervals are
+// stored in a segment tree over time, each one in O(log(q)) nodes. A depth first
+// walk of the tree unifies the edges of a node on the way down and rolls them
+// back on the way up with a RollbackUnionFind, so at every leaf the union find
+// holds exactly the edges alive at that time. That is O(q * log(q) * log(n))
+// in total for q operations over n nodes.
+public final class OfflineDynamicConnectivity {
+
+    // number of nodes
+    private final int n;
+
+    // operations in time order, queries have an index into the answers
+    private final List<int[]> ops = new ArrayList<>();
+
+    // alive intervals [from, to) and endpoints of every edge
+    private final List<int[]> edges = new ArrayList<>();
+
+    // start times of the edges which are currently alive, per edge
+    private final Map<Long, Deque<Integer>> open = new HashMap<>();
+
+    // number of queries recorded so far
+    private int queries;
+
+    private static final int CONNECTED = 0, COMPONENTS = 1, UPDATE = 2;
+
+    public OfflineDynamicConnectivity(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.n = n;
+    }
+
+    // record the addition of the undirected edge (u, v), parallel edges are allowed
+    public void addEdge(int u, int v) {
+        isNodeInboundOrThrow(u);
+        isNodeInboundOrThrow(v);
+        open.computeIfAbsent(edgeKey(u, v), k -> new ArrayDeque<>()).push(ops.size());
+        ops.add(new int[] {UPDATE});
+    }
+
+    // record the removal of one copy of the undirected edge (u, v)
+    public void removeEdge(int u, int v) {
+        Deque<Integer> starts = open.get(edgeKey(u, v));
+        if (starts == null || starts.isEmpty()) {
+            throw new IllegalArgumentException("Edge (" + u + ", " + v + ") does not exist");
+        }
+        edges.add(new int[] {starts.pop(), ops.size(), u, v});
+        ops.add(new int[] {UPDATE});
+    }
+
+    // record a query whether u and v are connected and return its index in the answers
+    public int queryConnected(int u, int v) {
+        isNodeInboundOrThrow(u);
+        isNodeInboundOrThrow(v);
+        ops.add(new int[] {CONNECTED, queries, u, v});
+        return queries++;
+    }
+
+    // record a query for the number of components and return its index in the answers
+    public int queryComponents() {
+        ops.add(new int[] {COMPONENTS, queries});
+        return queries++;
+    }
+
+    // answers every query, connected queries are answered with 1/0 and
+    // component queries with the number of components
+    public int[] solve() {
+        int[] answers = new int[queries];
+        int time = ops.size();
+        if (time == 0) {
+            return answers;
+        }
+
+        // edges which are never removed stay alive until the end
+        List<int[]> all = new ArrayList<>(edges);
+        for (Map.Entry<Long, Deque<Integer>> entry : open.entrySet()) {
+            int u = (int) (entry.getKey() >>> 32), v = (int) (long) entry.getKey();
+            for (int start : entry.getValue()) {
+                all.add(new int[] {start, time, u, v});
+            }
+        }
+
+        // edges of every segment tree node, null for a node without edges
+        List<List<int[]>> tree = new ArrayList<>(Collections.nCopies(4 * time, null));
+        for (int[] edge : all) {
+            insert(tree, 1, 0, time, edge[0], edge[1], edge);
+        }
+
+        walk(tree, 1, 0, time, new RollbackUnionFind(n), answers);
+        return answers;
+    }
+
+    // add the edge to the nodes covering [from, to) within node [lo, hi)
+    private void insert(List<List<int[]>> tree, int node, int lo, int hi, int from, int to, int[] edge) {
+        if (to <= lo || hi <= from) {
+            return;
+        }
+        if (from <= lo && hi <= to) {
+            if (tree.get(node) == null) {
+                tree.set(node, new ArrayList<>());
+            }
+            tree.get(node).add(edge);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        insert(tree, 2 * node, lo, mid, from, to, edge);
+        insert(tree, 2 * node + 1, mid, hi, from, to, edge);
+    }
+
+    private void walk(List<List<int[]>> tree, int node, int lo, int hi, RollbackUnionFind uf, int[] answers) {
+        int snapshot = uf.snapshot();
+        if (tree.get(node) != null) {
+            for (int[] edge : tree.get(node)) {
+                uf.unify(edge[2], edge[3]);
+            }
+        }
+
+        if (hi - lo == 1) {
+            int[] op = ops.get(lo);
+            if (op[0] == CONNECTED) {
+                answers[op[1]] = uf.connected(op[2], op[3]) ? 1 : 0;
+            } else if (op[0] == COMPONENTS) {
+                answers[op[1]] = uf.components();
+            }
+        } else {
+            int mid = (lo + hi) >>> 1;
+            walk(tree, 2 * node, lo, mid, uf, answers);
+            walk(tree, 2 * node + 1, mid, hi, uf, answers);
+        }
+
+        uf.rollback(snapshot);
+    }
+
+    private static long edgeKey(int u, int v) {
+        return ((long) Math.min(u, v) << 32) | Math.max(u, v);
+    }
+
+    private void isNodeInboundOrThrow(int u) {
+        if (0 > u || u >= n) {
+            throw new IndexOutOfBoundsException("Node does not exist : " + u);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.inders.dsa.datastructures.unionfind;
+
+import java.util.Arrays;
+
+// UnionFind whose unions can be undone. Path compression would rewrite parents
+// all over the tree, so it is not used and find relies on union by size alone,
+// which keeps every tree O(log(n)) deep. Every successful unify pushes the root
+// that was linked onto an undo stack, snapshot() returns the stack height and
+// rollback(snapshot) pops and unlinks until the stack is back to that height.
+public final class RollbackUnionFind {
+
+    // number of elements in the union find
+    private final int size;
+
+    // size of each component group, only valid for root nodes
+    private final int[] sizeMap;
+
+    // parent mapping, id[i] maps to parent of i, id[i] = i is a root node
+    private final int[] id;
+
+    // number of components
+    private int nComponents;
+
+    // roots which were linked under another root, in the order of the unions
+    private int[] history = new int[16];
+
+    // number of unions on the undo stack
+    private int historySize;
+
+    public RollbackUnionFind(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.size = nComponents = size;
+        sizeMap = new int[size];
+        id = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            // initialize size of each component to 1
+            sizeMap[i] = 1;
+            // initialize every node to be a root node
+            id[i] = i;
+        }
+    }
+
+    // find and returns the root node to which node i belongs, O(log(n))
+    public int find(int i) {
+        while (i != id[i]) {
+            i = id[i];
+        }
+        return i;
+    }
+
+    // return whether node i and j are connected/in the same component/set.
+    public boolean connected(int i, int j) {
+        return find(i) == find(j);
+    }
+
+    // returns size of the component node i belongs to
+    public int componentSize(int i) {
+        return sizeMap[find(i)];
+    }
+
+    // returns the number of elements/nodes in the UnionFind
+    public int size() {
+        return size;
+    }
+
+    // returns the number of components in the UnionFind
+    public int components() {
+        return nComponents;
+    }
+
+    // unify the components/sets to which node i and j belongs to. Returns
+    // true if two components were merged, only then is an undo step recorded
+    public boolean unify(int i, int j) {
+        int root1 = find(i); // root node of node i
+        int root2 = find(j); // root node of node j
+
+        // do nothing if node i and j are already in the same group
+        if (root1 == root2) {
+            return false;
+        }
+
+        // merge the smaller group into larger group, root1 is the smaller one
+        if (sizeMap[root1] > sizeMap[root2]) {
+            int temp = root1;
+            root1 = root2;
+            root2 = temp;
+        }
+        sizeMap[root2] += sizeMap[root1];
+        id[root1] = root2;
+
+        if (historySize == history.length) {
+            history = Arrays.copyOf(history, 2 * history.length);
+        }
+        history[historySize++] = root1;
+
+        // decrement the total number of components
+        nComponents--;
+        return true;
+    }
+
+    // returns a snapshot of the current state which can be passed to rollback
+    public int snapshot() {
+        return historySize;
+    }
+
+    // undo the last successful unify, returns false if there was nothing to undo
+    public boolean undo() {
+        if (historySize == 0) {
+            return false;
+        }
+        // the linked root still has its own size, so it only has to be unlinked
+        int child = history[--historySize];
+        int root = id[child];
+        sizeMap[root] -= sizeMap[child];
+        id[child] = child;
+        nComponents++;
+        return true;
+    }
+
+    // undo every unify done after the snapshot was taken
+    public void rollback(int snapshot) {
+        if (snapshot < 0 || snapshot > historySize) {
+            throw new IllegalArgumentException("Invalid snapshot : " + snapshot);
+        }
+        while (historySize > snapshot) {
+            undo();
+        }
+    }
+}
@@ -1,7 +1,16 @@
 package com.inders.dsa.datastructures.unionfind;
 
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
 public final class UnionFind {
 
+    // edges are grouped by blocks of 2^BLOCK_BITS source nodes in unifyAll
+    private static final int BLOCK_BITS = 12;
+
+    // below this many edges unifyAll does not bother reordering
+    private static final int REORDER_THRESHOLD = 1 << 16;
+
     // number of elements in the union find
     private final int size;
 
@@ -95,4 +104,99 @@ public final class UnionFind {
         // decrement the total number of components
         nComponents--;
     }
+
+    // unify the endpoints of every edge (from[k], to[k]). Large batches are first
+    // grouped by blocks of source nodes with a counting sort, O(m + n / 4096), so
+    // consecutive finds touch nearby parts of id and sizeMap instead of jumping
+    // around the whole array for every edge
+    public void unifyAll(int[] from, int[] to) {
+        if (from.length != to.length) {
+            throw new IllegalArgumentException("from and to must have the same length");
+        }
+        int m = from.length;
+        if (m < REORDER_THRESHOLD) {
+            for (int k = 0; k < m; k++) {
+                unify(from[k], to[k]);
+            }
+            return;
+        }
+
+        // counting sort of the edge indexes by the block of their source node
+        int blocks = ((size - 1) >>> BLOCK_BITS) + 1;
+        int[] start = new int[blocks + 1];
+        for (int k = 0; k < m; k++) {
+            start[(from[k] >>> BLOCK_BITS) + 1]++;
+        }
+        for (int b = 0; b < blocks; b++) {
+            start[b + 1] += start[b];
+        }
+        int[] order = new int[m];
+        for (int k = 0; k < m; k++) {
+            order[start[from[k] >>> BLOCK_BITS]++] = k;
+        }
+
+        for (int k : order) {
+            unify(from[k], to[k]);
+        }
+    }
+
+    // unify all the edges using several threads. The edge list is split in one
+    // chunk per processor and every chunk is reduced in parallel to a spanning
+    // forest of at most size - 1 edges with its own UnionFind, the forests are
+    // then merged into this one. This pays off when there are many more edges
+    // than nodes, at the cost of two int[size] arrays per chunk
+    public void unifyAllParallel(int[] from, int[] to) {
+        if (from.length != to.length) {
+            throw new IllegalArgumentException("from and to must have the same length");
+        }
+        int m = from.length;
+        int chunks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), m / REORDER_THRESHOLD));
+        if (chunks == 1) {
+            unifyAll(from, to);
+            return;
+        }
+
+        int[][] forests = IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> spanningForest(from, to, (int) ((long) m * c / chunks), (int) ((long) m * (c + 1) / chunks)))
+                .toArray(int[][]::new);
+
+        for (int[] forest : forests) {
+            for (int k = 0; k < forest.length; k += 2) {
+                unify(forest[k], forest[k + 1]);
+            }
+        }
+    }
+
+    // returns the edges of [lo, hi) which merged two components, as from/to pairs
+    private int[] spanningForest(int[] from, int[] to, int lo, int hi) {
+        UnionFind uf = new UnionFind(size);
+        int[] forest = new int[2 * Math.min(hi - lo, size - 1)];
+        int count = 0;
+        for (int k = lo; k < hi; k++) {
+            int components = uf.nComponents;
+            uf.unify(from[k], to[k]);
+            if (uf.nComponents != components) {
+                forest[count++] = from[k];
+                forest[count++] = to[k];
+            }
+        }
+        return Arrays.copyOf(forest, count);
+    }
+
+    // returns the component id of every node, ids are dense in [0, components())
+    // and numbered in order of the first node of each component, O(n)
+    public int[] componentLabels() {
+        int[] labels = new int[size];
+        int[] rootLabel = new int[size];
+        Arrays.fill(rootLabel, -1);
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            int root = find(i);
+            if (rootLabel[root] == -1) {
+                rootLabel[root] = next++;
+            }
+            labels[i] = rootLabel[root];
+        }
+        return labels;
+    }
 }
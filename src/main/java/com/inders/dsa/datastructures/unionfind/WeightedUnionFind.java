@@ -0,0 +1,126 @@
+package com.inders.dsa.datastructures.unionfind;
+
+// Union find for relative offset constraints of the form value(i) - value(j) = w,
+// also known as a potential union find. Every node stores its potential, the
+// difference between its value and the value of its parent, and find keeps
+// these differences correct while compressing the path, so a node pointing
+// directly at its root stores value(node) - value(root). The difference between
+// two nodes of the same component is then just the difference of their
+// potentials, at the same amortized cost as UnionFind.
+public final class WeightedUnionFind {
+
+    // number of elements in the union find
+    private final int size;
+
+    // size of each component group
+    private final int[] sizeMap;
+
+    // parent mapping, id[i] maps to parent of i, id[i] = i is a root node
+    private final int[] id;
+
+    // potential[i] = value(i) - value(id[i])
+    private final long[] potential;
+
+    // number of components
+    private int nComponents;
+
+    public WeightedUnionFind(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        this.size = nComponents = size;
+        sizeMap = new int[size];
+        id = new int[size];
+        potential = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            sizeMap[i] = 1;
+            id[i] = i;
+        }
+    }
+
+    // find and returns the root node to which node i belongs
+    public int find(int i) {
+        int root = i;
+        long total = 0; // value(i) - value(root)
+        while (root != id[root]) {
+            total += potential[root];
+            root = id[root];
+        }
+
+        // compress the path, the potential of every node on the way becomes its
+        // difference to the root, which is what is left of the total at that node
+        while (i != root) {
+            int j = id[i];
+            long p = potential[i];
+            id[i] = root;
+            potential[i] = total;
+            total -= p;
+            i = j;
+        }
+
+        return root;
+    }
+
+    // return whether node i and j are connected/in the same component/set.
+    public boolean connected(int i, int j) {
+        return find(i) == find(j);
+    }
+
+    // returns value(i) - value(j), node i and j must be connected
+    public long diff(int i, int j) {
+        if (find(i) != find(j)) {
+            throw new IllegalArgumentException("Nodes " + i + " and " + j + " are not connected");
+        }
+        // both nodes point directly to the root after find
+        return potential[i] - potential[j];
+    }
+
+    // returns size of the component node i belongs to
+    public int componentSize(int i) {
+        return sizeMap[find(i)];
+    }
+
+    // returns the number of elements/nodes in the UnionFind
+    public int size() {
+        return size;
+    }
+
+    // returns the number of components in the UnionFind
+    public int components() {
+        return nComponents;
+    }
+
+    // add the constraint value(i) - value(j) = w. Returns false if node i and j
+    // are already connected with a different difference, the constraint is then
+    // a contradiction and is ignored. Returns true otherwise
+    public boolean unify(int i, int j, long w) {
+        int root1 = find(i);
+        int root2 = find(j);
+
+        if (root1 == root2) {
+            return potential[i] - potential[j] == w;
+        }
+
+        // value(root1) - value(root2) follows from the constraint and the potentials
+        long rootDiff = w - potential[i] + potential[j];
+
+        // merge the smaller group into larger group
+        if (sizeMap[root1] > sizeMap[root2]) {
+            sizeMap[root1] += sizeMap[root2];
+            id[root2] = root1;
+            potential[root2] = -rootDiff;
+            sizeMap[root2] = 0;
+        } else {
+            sizeMap[root2] += sizeMap[root1];
+            id[root1] = root2;
+            potential[root1] = rootDiff;
+            sizeMap[root1] = 0;
+        }
+
+        // decrement the total number of components
+        nComponents--;
+        return true;
+    }
+}
@@ -0,0 +1,117 @@
+package com.inders.dsa.datastructures.binarysearchtree;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AVLTreeTest {
+
+    static final int LOOPS = 100;
+
+    @Test
+    public void testAddRemoveContains() {
+        SearchTree<Character> tree = new AVLTree<>();
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.height());
+
+        assertTrue(tree.add('B'));
+        assertFalse(tree.add('B'));
+        assertTrue(tree.add('A'));
+        assertTrue(tree.add('C'));
+        assertEquals(3, tree.size());
+        assertEquals(2, tree.height());
+        assertTrue(tree.contains('A'));
+        assertFalse(tree.contains('D'));
+
+        assertFalse(tree.remove('D'));
+        assertTrue(tree.remove('B'));
+        assertFalse(tree.contains('B'));
+        assertEquals(2, tree.size());
+        assertTrue(tree.remove('A'));
+        assertTrue(tree.remove('C'));
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.height());
+    }
+
+    // sorted input degrades BinarySearchTree into a list but not an AVL tree
+    @Test
+    public void testSortedInputStaysBalanced() {
+        AVLTree<Integer> tree = new AVLTree<>();
+        int n = 100000;
+        for (int i = 0; i < n; i++) {
+            tree.add(i);
+        }
+        assertEquals(17, tree.height()); // log2(n) = 16.6
+        for (int i = 0; i < n; i += 2) {
+            tree.remove(i);
+        }
+        assertTrue(tree.height() <= 1.44 * Math.log(n / 2.0) / Math.log(2));
+    }
+
+    @Test
+    public void testTraversalsOfPerfectTree() {
+        AVLTree<Integer> tree = new AVLTree<>();
+        for (int i = 1; i <= 7; i++) {
+            tree.add(i);
+        }
+        assertEquals(List.of(4, 2, 1, 3, 6, 5, 7), toList(tree.traverse(TreeTraversalOrder.PRE_ORDER)));
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7), toList(tree.traverse(TreeTraversalOrder.IN_ORDER)));
+        assertEquals(List.of(1, 3, 2, 5, 7, 6, 4), toList(tree.traverse(TreeTraversalOrder.POST_ORDER)));
+        assertEquals(List.of(4, 2, 6, 1, 3, 5, 7), toList(tree.traverse(TreeTraversalOrder.LEVEL_ORDER)));
+    }
+
+    @Test
+    public void testConcurrentModification() {
+        AVLTree<Integer> tree = new AVLTree<>();
+        tree.add(1);
+        tree.add(2);
+        for (TreeTraversalOrder order : TreeTraversalOrder.values()) {
+            Iterator<Integer> iter = tree.traverse(order);
+            tree.add(order.ordinal() + 10);
+            assertThrows(ConcurrentModificationException.class, iter::hasNext);
+        }
+    }
+
+    @Test
+    public void testRandomAgainstTreeSet() {
+        Random random = new Random();
+        for (int loop = 0; loop < LOOPS; loop++) {
+            AVLTree<Integer> tree = new AVLTree<>();
+            TreeSet<Integer> set = new TreeSet<>();
+            for (int k = 0; k < 200; k++) {
+                int v = random.nextInt(100);
+                if (random.nextBoolean()) {
+                    assertEquals(set.add(v), tree.add(v));
+                } else {
+                    assertEquals(set.remove(v), tree.remove(v));
+                }
+                assertEquals(set.size(), tree.size());
+            }
+            assertEquals(new ArrayList<>(set), toList(tree.traverse(TreeTraversalOrder.IN_ORDER)));
+            for (TreeTraversalOrder order : TreeTraversalOrder.values()) {
+                List<Integer> out = toList(tree.traverse(order));
+                Collections.sort(out);
+                assertEquals(new ArrayList<>(set), out);
+            }
+        }
+    }
+
+    static List<Integer> toList(Iterator<Integer> iter) {
+        List<Integer> out = new ArrayList<>();
+        while (iter.hasNext()) {
+            out.add(iter.next());
+        }
+        return out;
+    }
+}
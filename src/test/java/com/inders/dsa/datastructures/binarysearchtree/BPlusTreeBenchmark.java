@@ -0,0 +1,90 @@
+package com.inders.dsa.datastructures.binarysearchtree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+// add + contains on random input, a full in order scan and bulk loading of
+// sorted input for BPlusTree against the binary trees.
+// Run the main method directly, this is not part of the unit test suite.
+public class BPlusTreeBenchmark {
+
+    static final int N = 1_000_000;
+    static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        List<Integer> sorted = new ArrayList<>(N);
+        for (int i = 0; i < N; i++) sorted.add(i);
+        List<Integer> random = new ArrayList<>(sorted);
+        Collections.shuffle(random, new Random(42));
+
+        System.out.printf("add+contains n=%d: AVLTree=%d ms RedBlackTree=%d ms BPlusTree(16)=%d ms BPlusTree(32)=%d ms BPlusTree(64)=%d ms%n", N,
+                update(AVLTree::new, random), update(RedBlackTree::new, random),
+                updateBPlus(16, random), updateBPlus(32, random), updateBPlus(64, random));
+
+        SearchTree<Integer> avl = new AVLTree<>();
+        BPlusTree<Integer> bplus = new BPlusTree<>();
+        for (Integer value : random) {
+            avl.add(value);
+            bplus.add(value);
+        }
+        System.out.printf("in order scan n=%d: AVLTree=%d ms BPlusTree=%d ms%n", N,
+                scan(() -> avl.traverse(TreeTraversalOrder.IN_ORDER)), scan(() -> bplus.traverse(TreeTraversalOrder.IN_ORDER)));
+
+        System.out.printf("sorted input n=%d: BPlusTree.add=%d ms BPlusTree.bulkLoad=%d ms%n", N,
+                updateBPlus(32, sorted), bulkLoad(sorted));
+    }
+
+    static long update(Supplier<SearchTree<Integer>> factory, List<Integer> input) {
+        long best = Long.MAX_VALUE, blackhole = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            SearchTree<Integer> tree = factory.get();
+            for (Integer value : input) tree.add(value);
+            for (Integer value : input) if (tree.contains(value)) blackhole++;
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        if (blackhole != (long) ROUNDS * input.size()) throw new AssertionError();
+        return best / 1_000_000;
+    }
+
+    static long updateBPlus(int maxKeys, List<Integer> input) {
+        long best = Long.MAX_VALUE, blackhole = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            BPlusTree<Integer> tree = new BPlusTree<>(maxKeys);
+            for (Integer value : input) tree.add(value);
+            for (Integer value : input) if (tree.contains(value)) blackhole++;
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        if (blackhole != (long) ROUNDS * input.size()) throw new AssertionError();
+        return best / 1_000_000;
+    }
+
+    static long scan(Supplier<Iterator<Integer>> iterators) {
+        long best = Long.MAX_VALUE, blackhole = 0;
+        for (int round = 0; round < ROUNDS * 3; round++) {
+            long start = System.nanoTime();
+            for (Iterator<Integer> iter = iterators.get(); iter.hasNext(); ) {
+                blackhole += iter.next();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        if (blackhole == 42) System.out.println();
+        return best / 1_000_000;
+    }
+
+    static long bulkLoad(List<Integer> sorted) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            BPlusTree<Integer> tree = BPlusTree.bulkLoad(sorted);
+            best = Math.min(best, System.nanoTime() - start);
+            if (tree.size() != sorted.size()) throw new AssertionError();
+        }
+        return best / 1_000_000;
+    }
+}
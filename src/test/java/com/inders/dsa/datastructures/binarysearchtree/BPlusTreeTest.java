@@ -0,0 +1,143 @@
+package com.inders.dsa.datastructures.binarysearchtree;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static com.inders.dsa.datastructures.binarysearchtree.AVLTreeTest.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BPlusTreeTest {
+
+    static final int LOOPS = 100;
+
+    @Test
+    public void testEmptyTree() {
+        BPlusTree<Integer> tree = new BPlusTree<>();
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.size());
+        assertEquals(0, tree.height());
+        assertFalse(tree.contains(1));
+        assertFalse(tree.remove(1));
+        assertFalse(tree.traverse(TreeTraversalOrder.IN_ORDER).hasNext());
+        assertThrows(IllegalArgumentException.class, () -> new BPlusTree<Integer>(2));
+    }
+
+    @Test
+    public void testAddSplitsNodes() {
+        BPlusTree<Integer> tree = new BPlusTree<>(3);
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(tree.add(i));
+        }
+        assertEquals(1, tree.height());
+        assertFalse(tree.add(2));
+
+        // the fourth key splits the root leaf
+        tree.add(4);
+        assertEquals(2, tree.height());
+        for (int i = 5; i <= 20; i++) {
+            tree.add(i);
+            assertTrue(tree.isValid());
+        }
+        assertEquals(20, tree.size());
+        assertEquals(3, tree.height());
+
+        for (int i = 20; i > 0; i--) {
+            assertTrue(tree.remove(i));
+            assertTrue(tree.isValid());
+        }
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.height());
+    }
+
+    @Test
+    public void testTraverse() {
+        BPlusTree<Integer> tree = new BPlusTree<>();
+        tree.add(1);
+        assertThrows(IllegalArgumentException.class, () -> tree.traverse(TreeTraversalOrder.PRE_ORDER));
+        assertThrows(IllegalArgumentException.class, () -> tree.traverse(TreeTraversalOrder.POST_ORDER));
+        assertThrows(IllegalArgumentException.class, () -> tree.traverse(TreeTraversalOrder.LEVEL_ORDER));
+
+        Iterator<Integer> iter = tree.traverse(TreeTraversalOrder.IN_ORDER);
+        assertEquals(1, iter.next());
+        assertThrows(NoSuchElementException.class, iter::next);
+        iter = tree.traverse(TreeTraversalOrder.IN_ORDER);
+        tree.add(2);
+        assertThrows(ConcurrentModificationException.class, iter::hasNext);
+
+        List<Integer> values = new ArrayList<>();
+        for (int value : tree) {
+            values.add(value);
+        }
+        assertEquals(List.of(1, 2), values);
+    }
+
+    @Test
+    public void testRangeIterator() {
+        BPlusTree<Integer> tree = new BPlusTree<>(4);
+        for (int i = 0; i < 100; i += 10) {
+            tree.add(i);
+        }
+        assertEquals(List.of(20, 30, 40), toList(tree.range(15, 45)));
+        assertEquals(List.of(0, 10), toList(tree.range(-5, 10)));
+        assertEquals(List.of(), toList(tree.range(91, 200)));
+        assertEquals(List.of(), toList(tree.range(50, 40)));
+    }
+
+    @Test
+    public void testBulkLoad() {
+        for (int maxKeys = 3; maxKeys <= 8; maxKeys++) {
+            for (int n = 0; n < 200; n++) {
+                List<Integer> values = new ArrayList<>();
+                for (int i = 0; i < n; i++) {
+                    values.add(2 * i);
+                }
+                BPlusTree<Integer> tree = BPlusTree.bulkLoad(values, maxKeys);
+                assertTrue(tree.isValid());
+                assertEquals(n, tree.size());
+                assertEquals(values, toList(tree.traverse(TreeTraversalOrder.IN_ORDER)));
+
+                // the loaded tree is a normal tree for later updates
+                tree.add(1);
+                tree.remove(0);
+                assertTrue(tree.isValid());
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> BPlusTree.bulkLoad(List.of(1, 3, 2)));
+        assertThrows(IllegalArgumentException.class, () -> BPlusTree.bulkLoad(List.of(1, 1)));
+    }
+
+    @Test
+    public void testRandomAgainstTreeSet() {
+        Random random = new Random();
+        for (int loop = 0; loop < LOOPS; loop++) {
+            int maxKeys = 3 + random.nextInt(6);
+            BPlusTree<Integer> tree = new BPlusTree<>(maxKeys);
+            TreeSet<Integer> set = new TreeSet<>();
+            for (int k = 0; k < 500; k++) {
+                int v = random.nextInt(300);
+                if (random.nextInt(3) > 0) {
+                    assertEquals(set.add(v), tree.add(v));
+                } else {
+                    assertEquals(set.remove(v), tree.remove(v));
+                }
+                assertEquals(set.size(), tree.size());
+                assertEquals(set.contains(v), tree.contains(v));
+                assertTrue(tree.isValid());
+
+                int q = random.nextInt(320) - 10, q2 = q + random.nextInt(50);
+                assertEquals(new ArrayList<>(set.subSet(q, true, q2, true)), toList(tree.range(q, q2)));
+            }
+            assertEquals(new ArrayList<>(set), toList(tree.traverse(TreeTraversalOrder.IN_ORDER)));
+        }
+    }
+}
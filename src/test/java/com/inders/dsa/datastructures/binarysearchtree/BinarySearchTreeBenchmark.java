@@ -0,0 +1,48 @@
+package com.inders.dsa.datastructures.binarysearchtree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+// add, contains, height and remove on random and on sorted input for
+// BinarySearchTree and the self balancing trees. Sorted input turns
+// BinarySearchTree into a list, so that case uses fewer elements.
+// Run the main method directly, this is not part of the unit test suite.
+public class BinarySearchTreeBenchmark {
+
+    static final int RANDOM_N = 1_000_000;
+    static final int SORTED_N = 20_000;
+    static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        List<Integer> random = new ArrayList<>(RANDOM_N);
+        for (int i = 0; i < RANDOM_N; i++) random.add(i);
+        Collections.shuffle(random, new Random(42));
+        List<Integer> sorted = new ArrayList<>(SORTED_N);
+        for (int i = 0; i < SORTED_N; i++) sorted.add(i);
+
+        run("random", random, RANDOM_N);
+        run("sorted", sorted, SORTED_N);
+    }
+
+    static void run(String name, List<Integer> input, int n) {
+        System.out.printf("%s n=%d: BinarySearchTree=%d ms AVLTree=%d ms RedBlackTree=%d ms%n", name, n,
+                time(BinarySearchTree::new, input), time(AVLTree::new, input), time(RedBlackTree::new, input));
+    }
+
+    static long time(Supplier<SearchTree<Integer>> factory, List<Integer> input) {
+        long best = Long.MAX_VALUE, blackhole = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            SearchTree<Integer> tree = factory.get();
+            for (Integer value : input) tree.add(value);
+            for (Integer value : input) if (tree.contains(value)) blackhole++;
+            blackhole += tree.height();
+            for (Integer value : input) tree.remove(value);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return blackhole == 0 ? -1 : best / 1_000_000;
+    }
+}
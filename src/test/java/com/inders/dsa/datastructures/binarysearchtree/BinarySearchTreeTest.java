@@ -418,6 +418,24 @@ public class BinarySearchTreeTest {
         }
     }
 
+    // sorted input degrades the tree into a list, deep enough to overflow the
+    // stack of a recursive implementation
+    @Test
+    public void testSortedInputDoesNotOverflowStack() {
+        int n = 30000;
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        for (int i = 0; i < n; i++) {
+            assertTrue(tree.add(i));
+        }
+        assertFalse(tree.add(n - 1));
+        assertEquals(n, tree.height());
+        assertTrue(tree.contains(n - 1));
+        assertTrue(tree.remove(n - 1));
+        assertTrue(tree.remove(0));
+        assertEquals(n - 2, tree.height());
+        assertEquals(n - 2, tree.size());
+    }
+
     static List<Integer> genRandList(int sz) {
         List<Integer> lst = new ArrayList<>(sz);
         for (int i = 0; i < sz; i++) lst.add(i);
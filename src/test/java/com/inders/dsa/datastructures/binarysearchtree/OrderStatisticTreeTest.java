@@ -0,0 +1,116 @@
+package com.inders.dsa.datastructures.binarysearchtree;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OrderStatisticTreeTest {
+
+    static final int LOOPS = 100;
+
+    @Test
+    public void testQueries() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>();
+        for (int v : new int[]{50, 10, 40, 20, 30}) {
+            assertTrue(tree.add(v));
+        }
+        assertFalse(tree.add(30));
+        assertEquals(5, tree.size());
+
+        assertEquals(0, tree.rank(10));
+        assertEquals(2, tree.rank(25));
+        assertEquals(5, tree.rank(99));
+        assertEquals(10, tree.select(0));
+        assertEquals(40, tree.select(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.select(5));
+
+        assertEquals(3, tree.countInRange(15, 45));
+        assertEquals(2, tree.countInRange(20, 30));
+        assertEquals(0, tree.countInRange(30, 20));
+
+        assertEquals(20, tree.floor(25));
+        assertEquals(20, tree.floor(20));
+        assertNull(tree.floor(5));
+        assertEquals(30, tree.ceiling(25));
+        assertNull(tree.ceiling(51));
+        assertEquals(10, tree.lower(20));
+        assertNull(tree.lower(10));
+        assertEquals(30, tree.higher(20));
+        assertNull(tree.higher(50));
+
+        assertTrue(tree.remove(20));
+        assertEquals(1, tree.rank(25));
+        assertEquals(30, tree.select(1));
+    }
+
+    @Test
+    public void testRangeIterator() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>();
+        for (int i = 0; i < 100; i += 10) {
+            tree.add(i);
+        }
+        assertEquals(List.of(20, 30, 40), toList(tree.range(15, 45)));
+        assertEquals(List.of(0, 10), toList(tree.range(-5, 10)));
+        assertEquals(List.of(), toList(tree.range(91, 200)));
+        assertEquals(List.of(), toList(tree.range(50, 40)));
+
+        Iterator<Integer> iter = tree.range(0, 100);
+        assertEquals(0, iter.next());
+        tree.add(5);
+        assertThrows(ConcurrentModificationException.class, iter::hasNext);
+        assertThrows(NoSuchElementException.class, () -> tree.range(1, 2).next());
+    }
+
+    @Test
+    public void testRandomAgainstTreeSet() {
+        Random random = new Random();
+        for (int loop = 0; loop < LOOPS; loop++) {
+            OrderStatisticTree<Integer> tree = new OrderStatisticTree<>();
+            TreeSet<Integer> set = new TreeSet<>();
+            for (int k = 0; k < 300; k++) {
+                int v = random.nextInt(200);
+                if (random.nextInt(3) > 0) {
+                    assertEquals(set.add(v), tree.add(v));
+                } else {
+                    assertEquals(set.remove(v), tree.remove(v));
+                }
+                assertEquals(set.size(), tree.size());
+
+                int q = random.nextInt(220) - 10, q2 = q + random.nextInt(50);
+                assertEquals(set.headSet(q).size(), tree.rank(q));
+                assertEquals(set.subSet(q, true, q2, true).size(), tree.countInRange(q, q2));
+                assertEquals(new ArrayList<>(set.subSet(q, true, q2, true)), toList(tree.range(q, q2)));
+                assertEquals(set.floor(q), tree.floor(q));
+                assertEquals(set.ceiling(q), tree.ceiling(q));
+                assertEquals(set.lower(q), tree.lower(q));
+                assertEquals(set.higher(q), tree.higher(q));
+                if (!set.isEmpty()) {
+                    int i = random.nextInt(set.size());
+                    assertEquals(new ArrayList<>(set).get(i), tree.select(i));
+                }
+            }
+            assertTrue(tree.height() <= 1.45 * Math.log(tree.size() + 2) / Math.log(2) + 1);
+            assertEquals(new ArrayList<>(set), toList(tree.traverse(TreeTraversalOrder.IN_ORDER)));
+        }
+    }
+
+    static List<Integer> toList(Iterator<Integer> iter) {
+        List<Integer> out = new ArrayList<>();
+        while (iter.hasNext()) {
+            out.add(iter.next());
+        }
+        return out;
+    }
+}
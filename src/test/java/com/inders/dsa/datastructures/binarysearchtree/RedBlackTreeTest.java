@@ -0,0 +1,101 @@
+package com.inders.dsa.datastructures.binarysearchtree;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RedBlackTreeTest {
+
+    static final int LOOPS = 100;
+
+    @Test
+    public void testAddRemoveContains() {
+        SearchTree<Character> tree = new RedBlackTree<>();
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.height());
+
+        assertTrue(tree.add('B'));
+        assertFalse(tree.add('B'));
+        assertTrue(tree.add('A'));
+        assertTrue(tree.add('C'));
+        assertEquals(3, tree.size());
+        assertEquals(2, tree.height());
+        assertTrue(tree.contains('A'));
+        assertFalse(tree.contains('D'));
+
+        assertFalse(tree.remove('D'));
+        assertTrue(tree.remove('B'));
+        assertFalse(tree.contains('B'));
+        assertEquals(2, tree.size());
+        assertTrue(tree.remove('A'));
+        assertTrue(tree.remove('C'));
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.height());
+    }
+
+    @Test
+    public void testSortedInputStaysBalanced() {
+        RedBlackTree<Integer> tree = new RedBlackTree<>();
+        int n = 100000;
+        for (int i = 0; i < n; i++) {
+            tree.add(i);
+        }
+        assertTrue(tree.isBalanced());
+        assertTrue(tree.height() <= 2 * Math.log(n) / Math.log(2));
+        for (int i = n - 1; i >= 0; i -= 2) {
+            tree.remove(i);
+        }
+        assertTrue(tree.isBalanced());
+        assertTrue(tree.height() <= 2 * Math.log(n / 2.0) / Math.log(2));
+    }
+
+    @Test
+    public void testConcurrentModification() {
+        RedBlackTree<Integer> tree = new RedBlackTree<>();
+        tree.add(1);
+        tree.add(2);
+        for (TreeTraversalOrder order : TreeTraversalOrder.values()) {
+            Iterator<Integer> iter = tree.traverse(order);
+            tree.remove(tree.size() == 2 ? 1 : 2);
+            tree.add(order.ordinal() + 10);
+            tree.add(order.ordinal() + 20);
+            assertThrows(ConcurrentModificationException.class, iter::hasNext);
+        }
+    }
+
+    @Test
+    public void testRandomAgainstTreeSet() {
+        Random random = new Random();
+        for (int loop = 0; loop < LOOPS; loop++) {
+            RedBlackTree<Integer> tree = new RedBlackTree<>();
+            TreeSet<Integer> set = new TreeSet<>();
+            for (int k = 0; k < 200; k++) {
+                int v = random.nextInt(100);
+                if (random.nextBoolean()) {
+                    assertEquals(set.add(v), tree.add(v));
+                } else {
+                    assertEquals(set.remove(v), tree.remove(v));
+                }
+                assertEquals(set.size(), tree.size());
+                assertTrue(tree.isBalanced());
+            }
+            assertEquals(new ArrayList<>(set), AVLTreeTest.toList(tree.traverse(TreeTraversalOrder.IN_ORDER)));
+            for (TreeTraversalOrder order : TreeTraversalOrder.values()) {
+                List<Integer> out = AVLTreeTest.toList(tree.traverse(order));
+                Collections.sort(out);
+                assertEquals(new ArrayList<>(set), out);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.inders.dsa.datastructures.fenwicktree;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Counter update throughput of ConcurrentFenwickTree for 1, 2, 4, ... threads,
+// compared with a FenwickTreeRangeQueryPointUpdate behind a lock.
+// Run the main method directly, this is not part of the unit test suite.
+public class ConcurrentFenwickTreeBenchmark {
+
+    static final int BUCKETS = 1 << 16;
+    static final int ADDS = 20_000_000;
+    static final int ROUNDS = 3;
+
+    interface Counter {
+        void add(int i, long v);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            FenwickTreeRangeQueryPointUpdate locked = new FenwickTreeRangeQueryPointUpdate(BUCKETS);
+            Counter lockedCounter = (i, v) -> {
+                synchronized (locked) {
+                    locked.add(i, v);
+                }
+            };
+            ConcurrentFenwickTree concurrent = new ConcurrentFenwickTree(BUCKETS);
+
+            System.out.printf("threads=%d locked: %.1f M adds/s concurrent: %.1f M adds/s%n", threads,
+                    run(lockedCounter, threads), run(concurrent::add, threads));
+        }
+    }
+
+    // returns the best throughput in millions of adds per second
+    static double run(Counter counter, int threads) throws InterruptedException {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            Thread[] workers = new Thread[threads];
+            long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                workers[t] = new Thread(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int k = ADDS / threads; k > 0; k--) {
+                        counter.add(1 + random.nextInt(BUCKETS), 1);
+                    }
+                });
+                workers[t].start();
+            }
+            for (Thread w : workers) {
+                w.join();
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return ADDS * 1e3 / best;
+    }
+}
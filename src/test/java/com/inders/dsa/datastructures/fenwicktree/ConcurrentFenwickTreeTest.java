@@ -0,0 +1,112 @@
+package com.inders.dsa.datastructures.fenwicktree;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConcurrentFenwickTreeTest {
+
+    @Test
+    public void testIllegalCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentFenwickTree(null));
+    }
+
+    @Test
+    public void testSingleThreadedMatchesFenwickTree() {
+        int n = 200;
+        Random random = new Random();
+        long[] values = new long[n];
+        for (int i = 1; i < n; i++) values[i] = random.nextInt(2000) - 1000;
+
+        FenwickTreeRangeQueryPointUpdate expected = new FenwickTreeRangeQueryPointUpdate(values);
+        ConcurrentFenwickTree ft = new ConcurrentFenwickTree(values);
+        for (int loop = 0; loop < 1000; loop++) {
+            int lo = 1 + random.nextInt(n - 1), hi = lo + random.nextInt(n - lo);
+            assertEquals(expected.sum(lo, hi), ft.sum(lo, hi));
+
+            int i = 1 + random.nextInt(n - 1);
+            long v = random.nextInt(2000) - 1000;
+            expected.add(i, v);
+            ft.add(i, v);
+            assertEquals(expected.get(i), ft.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> ft.add(0, 1));
+    }
+
+    @Test
+    public void testConcurrentAdds() throws InterruptedException {
+        final int n = 1000, threads = 4, addsPerThread = 50000;
+        ConcurrentFenwickTree ft = new ConcurrentFenwickTree(n);
+        long[] expected = new long[n + 1];
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            workers[t] = new Thread(() -> {
+                for (int k = 0; k < addsPerThread; k++) {
+                    ft.add(1 + (k * 31 + id * 7) % n, id + 1);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread w : workers) {
+            w.join();
+        }
+        for (int t = 0; t < threads; t++) {
+            for (int k = 0; k < addsPerThread; k++) {
+                expected[1 + (k * 31 + t * 7) % n] += t + 1;
+            }
+        }
+
+        long total = 0;
+        for (int i = 1; i <= n; i++) {
+            assertEquals(expected[i], ft.get(i));
+            total += expected[i];
+        }
+        assertEquals(total, ft.sum(1, n));
+    }
+
+    // every add is of 3, so a prefix sum which saw an add half applied would
+    // not be a multiple of 3
+    @Test
+    public void testPrefixSumsNeverSeeHalfAppliedAdds() throws InterruptedException {
+        final int n = 1 << 12, threads = 3, addsPerThread = 100000;
+        ConcurrentFenwickTree ft = new ConcurrentFenwickTree(n);
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicBoolean torn = new AtomicBoolean();
+
+        Thread reader = new Thread(() -> {
+            Random random = new Random();
+            while (!done.get()) {
+                long s = ft.sum(1, 1 + random.nextInt(n));
+                if (s % 3 != 0) {
+                    torn.set(true);
+                }
+            }
+        });
+        reader.start();
+
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                Random random = new Random();
+                for (int k = 0; k < addsPerThread; k++) {
+                    ft.add(1 + random.nextInt(n), 3);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread w : workers) {
+            w.join();
+        }
+        done.set(true);
+        reader.join();
+
+        assertFalse(torn.get());
+        assertEquals(3L * threads * addsPerThread, ft.sum(1, n));
+    }
+}
@@ -0,0 +1,114 @@
+package com.inders.dsa.datastructures.fenwicktree;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FenwickTree2DTest {
+
+    static final int MIN_RAND_NUM = -1000;
+    static final int MAX_RAND_NUM = +1000;
+
+    static final int LOOPS = 1000;
+
+    @Test
+    public void testIllegalCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new FenwickTree2D(null));
+        assertThrows(IllegalArgumentException.class, () -> new FenwickTree2D(new long[][]{{0, 0}, {0}}));
+        assertThrows(IllegalArgumentException.class, () -> new FenwickTreeND());
+    }
+
+    @Test
+    public void testRectangleSums() {
+        long[][] values = {
+                {0, 0, 0, 0},
+                {0, 1, 2, 3},
+                {0, 4, 5, 6},
+        };
+        FenwickTree2D ft = new FenwickTree2D(values);
+        assertEquals(21, ft.sum(1, 1, 2, 3));
+        assertEquals(16, ft.sum(1, 2, 2, 3));
+        assertEquals(15, ft.sum(2, 1, 2, 3));
+        assertEquals(5, ft.get(2, 2));
+
+        ft.add(1, 1, 10);
+        ft.set(2, 3, 0);
+        assertEquals(25, ft.sum(1, 1, 2, 3));
+        assertEquals(15, ft.sum(1, 1, 2, 1));
+        assertThrows(IllegalArgumentException.class, () -> ft.sum(2, 1, 1, 1));
+    }
+
+    @Test
+    public void testRandomizedAgainstNaiveGrid() {
+        int rows = 37, cols = 23;
+        long[][] values = new long[rows + 1][cols + 1];
+        for (int r = 1; r <= rows; r++) {
+            for (int c = 1; c <= cols; c++) {
+                values[r][c] = randValue();
+            }
+        }
+
+        FenwickTree2D ft = new FenwickTree2D(values);
+        FenwickTree2D empty = new FenwickTree2D(rows, cols);
+        FenwickTreeND nd = new FenwickTreeND(rows, cols);
+        for (int r = 1; r <= rows; r++) {
+            for (int c = 1; c <= cols; c++) {
+                empty.add(r, c, values[r][c]);
+                nd.add(new int[]{r, c}, values[r][c]);
+            }
+        }
+
+        for (int loop = 0; loop < LOOPS; loop++) {
+            int r1 = 1 + (int) (Math.random() * rows), r2 = r1 + (int) (Math.random() * (rows - r1 + 1));
+            int c1 = 1 + (int) (Math.random() * cols), c2 = c1 + (int) (Math.random() * (cols - c1 + 1));
+
+            long expected = 0;
+            for (int r = r1; r <= r2; r++) {
+                for (int c = c1; c <= c2; c++) {
+                    expected += values[r][c];
+                }
+            }
+            assertEquals(expected, ft.sum(r1, c1, r2, c2));
+            assertEquals(expected, empty.sum(r1, c1, r2, c2));
+            assertEquals(expected, nd.sum(new int[]{r1, c1}, new int[]{r2, c2}));
+
+            long v = randValue();
+            values[r1][c2] += v;
+            ft.add(r1, c2, v);
+            empty.add(r1, c2, v);
+            nd.add(new int[]{r1, c2}, v);
+        }
+    }
+
+    @Test
+    public void testThreeDimensions() {
+        int n = 9;
+        long[][][] values = new long[n + 1][n + 1][n + 1];
+        FenwickTreeND ft = new FenwickTreeND(n, n, n);
+        assertEquals(3, ft.dimensions());
+
+        for (int loop = 0; loop < LOOPS; loop++) {
+            int[] p = {1 + (int) (Math.random() * n), 1 + (int) (Math.random() * n), 1 + (int) (Math.random() * n)};
+            long v = randValue();
+            values[p[0]][p[1]][p[2]] = v;
+            ft.set(p, v);
+
+            int[] lo = new int[3], hi = new int[3];
+            for (int d = 0; d < 3; d++) {
+                lo[d] = 1 + (int) (Math.random() * n);
+                hi[d] = lo[d] + (int) (Math.random() * (n - lo[d] + 1));
+            }
+            long expected = 0;
+            for (int x = lo[0]; x <= hi[0]; x++)
+                for (int y = lo[1]; y <= hi[1]; y++)
+                    for (int z = lo[2]; z <= hi[2]; z++)
+                        expected += values[x][y][z];
+            assertEquals(expected, ft.sum(lo, hi));
+        }
+    }
+
+    public static long randValue() {
+        return (long) (Math.random() * MAX_RAND_NUM * 2) + MIN_RAND_NUM;
+    }
+}
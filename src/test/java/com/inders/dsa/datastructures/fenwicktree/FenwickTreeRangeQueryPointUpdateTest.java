@@ -168,6 +168,55 @@ public class FenwickTreeRangeQueryPointUpdateTest {
                 () -> new FenwickTreeRangeQueryPointUpdate(null));
     }
 
+    @Test
+    public void testFindPrefixIndex() {
+        long[] ar = {UNUSED_VAL, 2, 0, 3, 1, 0, 4};
+        FenwickTreeRangeQueryPointUpdate ft = new FenwickTreeRangeQueryPointUpdate(ar);
+
+        assertEquals(1, ft.findPrefixIndex(0));
+        assertEquals(1, ft.findPrefixIndex(2));
+        assertEquals(3, ft.findPrefixIndex(3));
+        assertEquals(3, ft.findPrefixIndex(5));
+        assertEquals(4, ft.findPrefixIndex(6));
+        assertEquals(6, ft.findPrefixIndex(7));
+        assertEquals(6, ft.findPrefixIndex(10));
+        assertEquals(-1, ft.findPrefixIndex(11));
+
+        assertEquals(1, ft.kth(1));
+        assertEquals(3, ft.kth(3));
+        assertEquals(6, ft.kth(10));
+        assertThrows(IllegalArgumentException.class, () -> ft.kth(0));
+        assertEquals(-1, new FenwickTreeRangeQueryPointUpdate(0).findPrefixIndex(1));
+    }
+
+    @Test
+    public void testFindPrefixIndexRandomAgainstLinearScan() {
+        for (int loop = 0; loop < 100; loop++) {
+            int sz = 1 + (int) (Math.random() * 100);
+            long[] ar = new long[sz + 1];
+            for (int i = 1; i <= sz; i++) {
+                ar[i] = (long) (Math.random() * 5);
+            }
+            FenwickTreeRangeQueryPointUpdate ft = new FenwickTreeRangeQueryPointUpdate(ar);
+
+            long total = 0;
+            for (int i = 1; i <= sz; i++) total += ar[i];
+
+            for (long target = 1; target <= total + 1; target++) {
+                int expected = -1;
+                long prefix = 0;
+                for (int i = 1; i <= sz; i++) {
+                    prefix += ar[i];
+                    if (prefix >= target) {
+                        expected = i;
+                        break;
+                    }
+                }
+                assertEquals(expected, ft.findPrefixIndex(target));
+            }
+        }
+    }
+
     // Generate a list of random numbers, one based
     static long[] genRandList(int sz) {
         long[] lst = new long[sz + 1];
@@ -127,6 +127,51 @@ public class FenwickTreeRangeUpdatePointQueryTest {
         }
     }
 
+    @Test
+    public void testFenwickTreeRangeUpdatePointQuerySet() {
+
+        long[] values = {UNUSED_VAL, 2, 3, 4, 5, 6};
+        FenwickTreeRangeUpdatePointQuery ft = new FenwickTreeRangeUpdatePointQuery(values);
+        ft.set(3, -7);
+        ft.updateRange(2, 4, 10);
+        ft.set(4, 1);
+        assertEquals(2, ft.get(1));
+        assertEquals(13, ft.get(2));
+        assertEquals(3, ft.get(3));
+        assertEquals(1, ft.get(4));
+        assertEquals(6, ft.get(5));
+    }
+
+    @Test
+    public void testFenwickTreeRangeUpdatePointQueryRandomSets() {
+
+        int n = 100;
+        long[] values = new long[n];
+        for (int i = 0; i < n; i++) values[i] = randValue();
+
+        FenwickTreeRangeUpdatePointQuery ft = new FenwickTreeRangeUpdatePointQuery(values);
+        MockRangeUpdateFt mockedFt = new MockRangeUpdateFt(values);
+
+        for (int loop = 0; loop < TEST_SZ; loop++) {
+
+            long v = randValue();
+            int lo = lowBound(n - 1);
+            int hi = highBound(lo, n - 1);
+
+            if (Math.random() < 0.5) {
+                mockedFt.updateRange(lo, hi, v);
+                ft.updateRange(lo, hi, v);
+            } else {
+                mockedFt.ar[lo] = v;
+                ft.set(lo, v);
+            }
+
+            for (int i = 1; i < n; i++) {
+                assertEquals(mockedFt.get(i), ft.get(i));
+            }
+        }
+    }
+
     // Select a lower bound index for the Fenwick tree
     public static int lowBound(int N) {
         return 1 + (int) (Math.random() * N);
@@ -0,0 +1,134 @@
+package com.inders.dsa.datastructures.fenwicktree;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FenwickTreeRangeUpdateRangeQueryTest {
+
+    static class MockRangeUpdateRangeQueryFt {
+        long[] ar;
+
+        public MockRangeUpdateRangeQueryFt(long[] values) {
+            ar = values.clone();
+        }
+
+        public long sum(int i, int j) {
+            long s = 0;
+            for (int k = i; k <= j; k++) s += ar[k];
+            return s;
+        }
+
+        public void updateRange(int i, int j, long v) {
+            for (int k = i; k <= j; k++) ar[k] += v;
+        }
+    }
+
+    static final int MIN_RAND_NUM = -1000;
+    static final int MAX_RAND_NUM = +1000;
+
+    static final int TEST_SZ = 1000;
+
+    static long UNUSED_VAL;
+
+    @BeforeEach
+    public void setup() {
+        UNUSED_VAL = randValue();
+    }
+
+    @Test
+    public void testIllegalCreation() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new FenwickTreeRangeUpdateRangeQuery(null));
+    }
+
+    @Test
+    public void testIllegalRange() {
+        FenwickTreeRangeUpdateRangeQuery ft = new FenwickTreeRangeUpdateRangeQuery(5);
+        assertThrows(IllegalArgumentException.class, () -> ft.sum(3, 2));
+        assertThrows(IllegalArgumentException.class, () -> ft.updateRange(3, 2, 1));
+    }
+
+    @Test
+    public void testRangeUpdateRangeQuerySimple() {
+
+        long[] values = {UNUSED_VAL, 2, 3, 4, 5, 6};
+        FenwickTreeRangeUpdateRangeQuery ft = new FenwickTreeRangeUpdateRangeQuery(values);
+        assertEquals(20, ft.sum(1, 5));
+        assertEquals(12, ft.sum(2, 4));
+
+        ft.updateRange(2, 4, 10);
+        assertEquals(50, ft.sum(1, 5));
+        assertEquals(42, ft.sum(2, 4));
+        assertEquals(29, ft.sum(3, 4));
+        assertEquals(2, ft.get(1));
+        assertEquals(13, ft.get(2));
+        assertEquals(6, ft.get(5));
+
+        ft.set(3, -1);
+        ft.add(5, 4);
+        assertEquals(39, ft.sum(1, 5));
+        assertEquals(-1, ft.get(3));
+        assertEquals(10, ft.get(5));
+    }
+
+    @Test
+    public void testEmptyTree() {
+        FenwickTreeRangeUpdateRangeQuery ft = new FenwickTreeRangeUpdateRangeQuery(10);
+        assertEquals(0, ft.sum(1, 10));
+        ft.updateRange(1, 10, 3);
+        ft.updateRange(5, 5, -3);
+        assertEquals(27, ft.sum(1, 10));
+        assertEquals(12, ft.sum(1, 4));
+        assertEquals(0, ft.get(5));
+    }
+
+    @Test
+    public void testRandomizedAgainstNaiveArray() {
+
+        int n = 200;
+        long[] values = new long[n];
+        for (int i = 0; i < n; i++) values[i] = randValue();
+
+        FenwickTreeRangeUpdateRangeQuery ft = new FenwickTreeRangeUpdateRangeQuery(values);
+        MockRangeUpdateRangeQueryFt mockedFt = new MockRangeUpdateRangeQueryFt(values);
+
+        for (int loop = 0; loop < TEST_SZ; loop++) {
+
+            int lo = lowBound(n - 1);
+            int hi = highBound(lo, n - 1);
+            assertEquals(mockedFt.sum(lo, hi), ft.sum(lo, hi));
+
+            long delta = randValue();
+            lo = lowBound(n - 1);
+            hi = highBound(lo, n - 1);
+            if (Math.random() < 0.5) {
+                mockedFt.updateRange(lo, hi, delta);
+                ft.updateRange(lo, hi, delta);
+            } else {
+                mockedFt.updateRange(lo, lo, delta - mockedFt.ar[lo]);
+                ft.set(lo, delta);
+            }
+        }
+
+        for (int i = 1; i < n; i++) {
+            assertEquals(mockedFt.sum(i, i), ft.get(i));
+        }
+    }
+
+    // Select a lower bound index for the Fenwick tree
+    public static int lowBound(int N) {
+        return 1 + (int) (Math.random() * N);
+    }
+
+    // Select an upper bound index for the Fenwick tree
+    public static int highBound(int low, int N) {
+        return Math.min(N, low + (int) (Math.random() * N));
+    }
+
+    public static long randValue() {
+        return (long) (Math.random() * MAX_RAND_NUM * 2) + MIN_RAND_NUM;
+    }
+}
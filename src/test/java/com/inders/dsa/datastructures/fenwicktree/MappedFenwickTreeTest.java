@@ -0,0 +1,118 @@
+package com.inders.dsa.datastructures.fenwicktree;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MappedFenwickTreeTest {
+
+    private Path file;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        file = Files.createTempFile("fenwick", ".bin");
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testIntervalSums() throws IOException {
+        long[] ar = {0, 1, 2, 3, 4, 5, 6};
+        try (MappedFenwickTree ft = MappedFenwickTree.create(file, 6, i -> ar[(int) i])) {
+            assertEquals(6, ft.size());
+            assertEquals(21, ft.sum(1, 6));
+            assertEquals(7, ft.sum(3, 4));
+            assertEquals(5, ft.get(5));
+
+            ft.add(2, 10);
+            ft.set(6, -6);
+            assertEquals(19, ft.sum(1, 6));
+            assertThrows(IllegalArgumentException.class, () -> ft.sum(3, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> ft.sum(1, 7));
+            assertThrows(IndexOutOfBoundsException.class, () -> ft.add(0, 1));
+        }
+    }
+
+    @Test
+    public void testReopen() throws IOException {
+        try (MappedFenwickTree ft = MappedFenwickTree.create(file, 1000)) {
+            for (int i = 1; i <= 1000; i++) {
+                ft.add(i, i);
+            }
+        }
+        try (MappedFenwickTree ft = MappedFenwickTree.open(file)) {
+            assertEquals(1000, ft.size());
+            assertEquals(500500, ft.sum(1, 1000));
+            assertEquals(77, ft.get(77));
+            ft.add(1, 1);
+        }
+        try (MappedFenwickTree ft = MappedFenwickTree.open(file)) {
+            assertEquals(500501, ft.sum(1, 1000));
+        }
+    }
+
+    @Test
+    public void testFileStartsWithMagic() throws IOException {
+        MappedFenwickTree.create(file, 10).close();
+        byte[] bytes = Files.readAllBytes(file);
+        assertEquals("Fenwick1", new String(bytes, 0, 8, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testOpenRejectsOtherFiles() throws IOException {
+        Files.write(file, new byte[64]);
+        assertThrows(IOException.class, () -> MappedFenwickTree.open(file));
+    }
+
+    @Test
+    public void testOpenRejectsUnfinishedCreate() throws IOException {
+        // the build fails part way, leaving a file of the full length behind
+        assertThrows(IllegalStateException.class, () -> MappedFenwickTree.create(file, 100, i -> {
+            if (i == 50) {
+                throw new IllegalStateException();
+            }
+            return i;
+        }));
+        assertEquals(2 * Long.BYTES + 101 * Long.BYTES, Files.size(file));
+        assertThrows(IOException.class, () -> MappedFenwickTree.open(file));
+    }
+
+    // tiny segments so that the tree spans many mappings
+    @Test
+    public void testRandomAgainstFenwickTreeAcrossSegments() throws IOException {
+        Random random = new Random();
+        int n = 1000;
+        long[] values = new long[n + 1];
+        for (int i = 1; i <= n; i++) values[i] = random.nextInt(2000) - 1000;
+
+        FenwickTreeRangeQueryPointUpdate expected = new FenwickTreeRangeQueryPointUpdate(values);
+        try (MappedFenwickTree ft = MappedFenwickTree.create(file, n, i -> values[(int) i], 5)) {
+            for (int loop = 0; loop < 1000; loop++) {
+                int lo = 1 + random.nextInt(n), hi = lo + random.nextInt(n - lo + 1);
+                assertEquals(expected.sum(lo, hi), ft.sum(lo, hi));
+
+                int i = 1 + random.nextInt(n);
+                long v = random.nextInt(2000) - 1000;
+                expected.add(i, v);
+                ft.add(i, v);
+            }
+        }
+        try (MappedFenwickTree ft = MappedFenwickTree.open(file, 7)) {
+            for (int i = 1; i <= n; i++) {
+                assertEquals(expected.get(i), ft.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.inders.dsa.datastructures.fenwicktree;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PercentileHistogramTest {
+
+    @Test
+    public void testIllegalCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new PercentileHistogram(null));
+        assertThrows(IllegalArgumentException.class, () -> new PercentileHistogram(new long[0]));
+        assertThrows(IllegalArgumentException.class, () -> new PercentileHistogram(new long[]{1, 5, 5}));
+    }
+
+    @Test
+    public void testPercentiles() {
+        PercentileHistogram h = new PercentileHistogram(new long[]{10, 20, 50, 100});
+        assertThrows(IllegalStateException.class, () -> h.percentile(50));
+
+        for (int i = 0; i < 90; i++) h.record(5);
+        h.record(15, 8);
+        h.record(70);
+        h.record(1000); // above the last bound, counted in the last bucket
+
+        assertEquals(100, h.count());
+        assertEquals(10, h.percentile(50));
+        assertEquals(10, h.percentile(90));
+        assertEquals(20, h.percentile(90.5));
+        assertEquals(20, h.percentile(98));
+        assertEquals(100, h.percentile(99));
+        assertEquals(100, h.percentile(100));
+        assertEquals(98, h.countAtOrBelow(1));
+        assertEquals(98, h.countAtOrBelow(2));
+        assertThrows(IllegalArgumentException.class, () -> h.percentile(0));
+        assertThrows(IllegalArgumentException.class, () -> h.percentile(101));
+    }
+
+    // with one bucket per value the percentiles must match a sorted array
+    @Test
+    public void testRandomAgainstSortedValues() {
+        Random random = new Random();
+        int maxValue = 500, n = 5000;
+        long[] bounds = new long[maxValue + 1];
+        for (int i = 0; i <= maxValue; i++) bounds[i] = i;
+
+        PercentileHistogram h = new PercentileHistogram(bounds);
+        long[] values = new long[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextInt(maxValue + 1);
+            h.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double p : new double[]{0.1, 1, 25, 50, 75, 90, 99, 99.9, 100}) {
+            int rank = (int) Math.ceil(p / 100 * n);
+            assertEquals(values[rank - 1], h.percentile(p));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.inders.dsa.datastructures.fenwicktree;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SlidingWindowFenwickTreeTest {
+
+    @Test
+    public void testIllegalCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowFenwickTree(0, 0));
+    }
+
+    @Test
+    public void testWindow() {
+        SlidingWindowFenwickTree w = new SlidingWindowFenwickTree(5, 100);
+        w.add(100, 1);
+        w.add(101, 2);
+        w.add(103, 3);
+        assertEquals(103, w.now());
+        assertEquals(6, w.sumLast(5));
+        assertEquals(5, w.sum(101, 103));
+        assertEquals(0, w.get(102));
+
+        w.advance(105); // 100 is out, 101 is the oldest bucket left
+        assertEquals(5, w.sumLast(5));
+        assertEquals(3, w.sumLast(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> w.get(100));
+        assertThrows(IndexOutOfBoundsException.class, () -> w.get(106));
+        assertThrows(IndexOutOfBoundsException.class, () -> w.add(99, 1));
+        assertThrows(IllegalArgumentException.class, () -> w.advance(104));
+
+        w.add(104, 4);
+        assertEquals(7, w.sum(102, 105));
+
+        w.advance(1000);
+        assertEquals(0, w.sumLast(5));
+        w.add(998, 7);
+        assertEquals(7, w.sumLast(5));
+    }
+
+    @Test
+    public void testRandomAgainstMap() {
+        Random random = new Random();
+        int n = 60;
+        long start = -1000;
+        SlidingWindowFenwickTree w = new SlidingWindowFenwickTree(n, start);
+        Map<Long, Long> buckets = new HashMap<>();
+
+        for (int loop = 0; loop < 5000; loop++) {
+            int op = random.nextInt(10);
+            if (op == 0) {
+                w.advance(w.now() + random.nextInt(2 * n));
+            } else if (op < 6) {
+                long t = w.now() - random.nextInt(n) + (random.nextInt(4) == 0 ? random.nextInt(5) : 0);
+                long v = random.nextInt(100) - 50;
+                w.add(t, v);
+                buckets.merge(t, v, Long::sum);
+            } else {
+                long from = w.now() - random.nextInt(n);
+                long to = from + random.nextInt((int) (w.now() - from + 1));
+                long expected = 0;
+                for (long t = from; t <= to; t++) {
+                    expected += buckets.getOrDefault(t, 0L);
+                }
+                assertEquals(expected, w.sum(from, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.inders.dsa.datastructures.priorityqueue;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+
+// Measures add followed by poll of n random elements for BinaryHeap,
+// QuickRemovalsBinaryHeap and java.util.PriorityQueue for sizes from 1k to 10M.
+// Run the main method directly, this is not part of the unit test suite.
+public class BinaryHeapBenchmark {
+
+    static final int WARMUP = 3;
+    static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        for (int n = 1_000; n <= 10_000_000; n *= 10) {
+            Integer[] values = new Random(n).ints(n).boxed().toArray(Integer[]::new);
+            int rounds = Math.max(1, ROUNDS * 1_000_000 / n);
+            boolean quickRemovals = n <= 1_000_000; // its index map makes larger runs too slow
+
+            System.out.printf("n=%d BinaryHeap=%.1f ns/op QuickRemovalsBinaryHeap=%s PriorityQueue=%.1f ns/op%n", n,
+                    time(values, rounds, () -> new BinaryHeap<Integer>()),
+                    quickRemovals ? String.format("%.1f ns/op", time(values, rounds, () -> new QuickRemovalsBinaryHeap<Integer>())) : "-",
+                    timePriorityQueue(values, rounds));
+        }
+    }
+
+    static double time(Integer[] values, int rounds, java.util.function.Supplier<Heap<Integer>> factory) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP + rounds; round++) {
+            Heap<Integer> heap = factory.get();
+            long start = System.nanoTime();
+            for (Integer v : values) heap.add(v);
+            while (!heap.isEmpty()) heap.poll();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return (double) best / values.length;
+    }
+
+    static double timePriorityQueue(Integer[] values, int rounds) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP + rounds; round++) {
+            PriorityQueue<Integer> heap = new PriorityQueue<>();
+            long start = System.nanoTime();
+            for (Integer v : values) heap.add(v);
+            while (!heap.isEmpty()) heap.poll();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return (double) best / values.length;
+    }
+}
@@ -11,6 +11,7 @@ import java.util.PriorityQueue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BinaryHeapTest {
@@ -301,6 +302,68 @@ public class BinaryHeapTest {
         }
     }
 
+    @Test
+    public void testPollN() {
+        for (int loop = 0; loop < LOOPS; loop++) {
+            List<Integer> in = genRandList(MAX_SZ);
+            BinaryHeap<Integer> pq = new BinaryHeap<>(in);
+            PriorityQueue<Integer> pq2 = new PriorityQueue<>(in);
+
+            int k = (int) (Math.random() * 2 * MAX_SZ);
+            Integer[] dest = new Integer[k];
+            int polled = pq.pollN(k, dest);
+            assertEquals(Math.min(k, MAX_SZ), polled);
+            for (int i = 0; i < polled; i++) {
+                assertEquals(pq2.poll(), dest[i]);
+            }
+            assertEquals(pq2.size(), pq.size());
+            assertTrue(pq.isMinHeap(0));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new BinaryHeap<>(new Integer[] {1, 2}).pollN(2, new Integer[1]));
+    }
+
+    @Test
+    public void testTopK() {
+        for (int loop = 0; loop < LOOPS; loop++) {
+            List<Integer> in = genRandList(MAX_SZ);
+            BinaryHeap<Integer> pq = new BinaryHeap<>(in);
+
+            int k = (int) (Math.random() * 2 * MAX_SZ);
+            List<Integer> expected = new ArrayList<>(in);
+            Collections.sort(expected);
+            expected = expected.subList(0, Math.min(k, MAX_SZ));
+
+            assertEquals(expected, pq.topK(k));
+            // the heap is left untouched
+            assertEquals(MAX_SZ, pq.size());
+            assertEquals(expected.isEmpty() ? Collections.min(in) : expected.get(0), pq.peek());
+        }
+        assertTrue(new BinaryHeap<Integer>().topK(3).isEmpty());
+    }
+
+    @Test
+    public void testAddAll() {
+        for (int loop = 0; loop < LOOPS; loop++) {
+            // mix small and large batches so both the swim and heapify paths are hit
+            List<Integer> first = genRandList((int) (Math.random() * MAX_SZ));
+            List<Integer> second = genRandList((int) (Math.random() * MAX_SZ));
+
+            BinaryHeap<Integer> pq = new BinaryHeap<>();
+            PriorityQueue<Integer> pq2 = new PriorityQueue<>();
+            pq.addAll(first);
+            pq2.addAll(first);
+            pq.addAll(second);
+            pq2.addAll(second);
+
+            assertTrue(pq.isMinHeap(0));
+            assertEquals(pq2.size(), pq.size());
+            while (!pq2.isEmpty()) {
+                assertEquals(pq2.poll(), pq.poll());
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new BinaryHeap<Integer>().addAll(Arrays.asList(1, null)));
+    }
+
     static Integer[] genRandArray(int sz) {
         Integer[] lst = new Integer[sz];
         for (int i = 0; i < sz; i++) {
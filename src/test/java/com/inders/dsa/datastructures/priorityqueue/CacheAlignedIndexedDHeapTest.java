@@ -0,0 +1,131 @@
+package com.inders.dsa.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PriorityQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CacheAlignedIndexedDHeapTest {
+
+    @Test
+    public void testIllegalSizeOfZero() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CacheAlignedIndexedDHeap<String>(4, 0));
+    }
+
+    @Test
+    public void testDuplicateKeys() {
+        CacheAlignedIndexedDHeap<String> pq = new CacheAlignedIndexedDHeap<>(4, 10);
+        pq.insert(5, "abcdef");
+        assertThrows(IllegalArgumentException.class, () -> pq.insert(5, "xyz"));
+    }
+
+    @Test
+    public void testOperations() {
+        for (int d = 2; d <= 16; d *= 2) {
+            CacheAlignedIndexedDHeap<Integer> pq = new CacheAlignedIndexedDHeap<>(d, 7);
+
+            pq.insert(4, 4);
+            assertTrue(pq.contains(4));
+            assertEquals(4, pq.peekValue());
+            assertEquals(4, pq.peekKeyIndex());
+            pq.update(4, 8);
+            assertEquals(8, pq.peekValue());
+            assertEquals(4, pq.pollKeyIndex());
+            assertFalse(pq.contains(4));
+            pq.insert(3, 99);
+            pq.insert(1, 101);
+            pq.insert(2, 60);
+            assertEquals(60, pq.peekValue());
+            assertEquals(2, pq.peekKeyIndex());
+            pq.increase(2, 150);
+            assertEquals(99, pq.peekValue());
+            assertEquals(3, pq.peekKeyIndex());
+            pq.increase(3, 250);
+            assertEquals(101, pq.peekValue());
+            assertEquals(1, pq.peekKeyIndex());
+            pq.decrease(3, -500);
+            assertEquals(-500, pq.peekValue());
+            assertEquals(3, pq.peekKeyIndex());
+            pq.delete(3);
+            assertFalse(pq.contains(3));
+            assertEquals(101, pq.peekValue());
+            assertEquals(1, pq.peekKeyIndex());
+            assertEquals(101, pq.valueOf(1));
+            assertTrue(pq.isMinHeap());
+        }
+    }
+
+    @Test
+    public void testRandomInsertionsAndPolls() {
+        for (int n = 1; n < 1000; n++) {
+            int d = 2 + (int) (Math.random() * 15);
+            int[] randomValues = IndexedBinaryHeapTest.genRandArray(n, -100000, 100000);
+            CacheAlignedIndexedDHeap<Integer> pq1 = new CacheAlignedIndexedDHeap<>(d, n);
+            PriorityQueue<Integer> pq2 = new PriorityQueue<>(n);
+
+            final double p = Math.random();
+
+            for (int i = 0; i < n; i++) {
+                pq1.insert(i, randomValues[i]);
+                pq2.add(randomValues[i]);
+
+                if (Math.random() < p) {
+                    assertEquals(pq2.poll(), pq1.pollValue());
+                }
+
+                assertEquals(pq2.size(), pq1.size());
+                if (!pq2.isEmpty()) {
+                    assertEquals(pq2.peek(), pq1.peekValue());
+                }
+            }
+            assertTrue(pq1.isMinHeap());
+        }
+    }
+
+    @Test
+    public void testRandomOperationsAgainstIndexedDHeap() {
+        for (int loop = 0; loop < 200; loop++) {
+            int n = 1 + (int) (Math.random() * 200);
+            int d = 2 + (int) (Math.random() * 15);
+            CacheAlignedIndexedDHeap<Integer> pq1 = new CacheAlignedIndexedDHeap<>(d, n);
+            IndexedDHeap<Integer> pq2 = new IndexedDHeap<>(d, n);
+
+            for (int op = 0; op < 5 * n; op++) {
+                int ki = (int) (Math.random() * n);
+                int value = (int) (Math.random() * 1000);
+                double r = Math.random();
+
+                if (!pq2.contains(ki)) {
+                    pq1.insert(ki, value);
+                    pq2.insert(ki, value);
+                } else if (r < 0.3) {
+                    pq1.decrease(ki, value);
+                    pq2.decrease(ki, value);
+                } else if (r < 0.5) {
+                    pq1.increase(ki, value);
+                    pq2.increase(ki, value);
+                } else if (r < 0.6) {
+                    assertEquals(pq2.update(ki, value), pq1.update(ki, value));
+                } else if (r < 0.8) {
+                    assertEquals(pq2.delete(ki), pq1.delete(ki));
+                } else {
+                    // ties may be broken differently, so poll the same key index from both
+                    int minKey = pq1.peekKeyIndex();
+                    assertEquals(pq2.peekValue(), pq1.valueOf(minKey));
+                    assertEquals(pq2.delete(minKey), pq1.pollValue());
+                }
+
+                assertEquals(pq2.size(), pq1.size());
+                if (!pq2.isEmpty()) {
+                    assertEquals(pq2.peekValue(), pq1.peekValue());
+                }
+                assertTrue(pq1.isMinHeap());
+            }
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DHeapTest {
@@ -148,6 +149,93 @@ public class DHeapTest {
         assertEquals(13, pq.poll());
     }
 
+    @Test
+    public void testRemoveRandomized() {
+        for (int loop = 0; loop < LOOPS; loop++) {
+            List<Integer> in = genRandList(MAX_SZ);
+            DHeap<Integer> pq = new DHeap<>(3, in.size());
+            PriorityQueue<Integer> PQ = new PriorityQueue<>(in);
+            for (int x : in) {
+                pq.add(x);
+            }
+            Collections.shuffle(in);
+            for (int i = 0; i < in.size(); i += 2) {
+                assertEquals(PQ.remove(in.get(i)), pq.remove(in.get(i)));
+                assertEquals(PQ.remove(-1), pq.remove(-1));
+                assertEquals(PQ.size(), pq.size());
+                assertEquals(PQ.peek(), pq.peek());
+            }
+            while (!PQ.isEmpty()) {
+                assertEquals(PQ.poll(), pq.poll());
+            }
+        }
+    }
+
+    @Test
+    public void testPollN() {
+        for (int loop = 0; loop < LOOPS; loop++) {
+            Integer[] in = genRandArray(MAX_SZ);
+            DHeap<Integer> pq = new DHeap<>(2 + loop % 6, MAX_SZ);
+            PriorityQueue<Integer> pq2 = new PriorityQueue<>();
+            for (int x : in) {
+                pq.add(x);
+                pq2.add(x);
+            }
+
+            int k = (int) (Math.random() * 2 * MAX_SZ);
+            Integer[] dest = new Integer[k];
+            int polled = pq.pollN(k, dest);
+            assertEquals(Math.min(k, MAX_SZ), polled);
+            for (int i = 0; i < polled; i++) {
+                assertEquals(pq2.poll(), dest[i]);
+            }
+            assertEquals(pq2.size(), pq.size());
+            while (!pq2.isEmpty()) {
+                assertEquals(pq2.poll(), pq.poll());
+            }
+        }
+    }
+
+    @Test
+    public void testTopK() {
+        for (int loop = 0; loop < LOOPS; loop++) {
+            List<Integer> in = genRandList(MAX_SZ);
+            DHeap<Integer> pq = new DHeap<>(2 + loop % 6, MAX_SZ);
+            for (int x : in) {
+                pq.add(x);
+            }
+
+            int k = (int) (Math.random() * 2 * MAX_SZ);
+            List<Integer> expected = new ArrayList<>(in);
+            Collections.sort(expected);
+            expected = expected.subList(0, Math.min(k, MAX_SZ));
+
+            assertEquals(expected, pq.topK(k));
+            assertEquals(MAX_SZ, pq.size());
+        }
+    }
+
+    @Test
+    public void testAddAll() {
+        for (int loop = 0; loop < LOOPS; loop++) {
+            List<Integer> first = genRandList((int) (Math.random() * MAX_SZ));
+            List<Integer> second = genRandList((int) (Math.random() * MAX_SZ));
+
+            DHeap<Integer> pq = new DHeap<>(2 + loop % 6, 2 * MAX_SZ);
+            PriorityQueue<Integer> pq2 = new PriorityQueue<>();
+            pq.addAll(first);
+            pq2.addAll(first);
+            pq.addAll(second);
+            pq2.addAll(second);
+
+            assertEquals(pq2.size(), pq.size());
+            while (!pq2.isEmpty()) {
+                assertEquals(pq2.poll(), pq.poll());
+            }
+        }
+        assertThrows(IllegalStateException.class, () -> new DHeap<Integer>(2, 3).addAll(genRandList(4)));
+    }
+
     static Integer[] genRandArray(int sz) {
         Integer[] lst = new Integer[sz];
         for (int i = 0; i < sz; i++) {
@@ -0,0 +1,176 @@
+package com.inders.dsa.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HierarchicalTimingWheelTest {
+
+    // clock which only moves when the test moves it
+    static class FakeClock {
+        long time;
+
+        long get() {
+            return time;
+        }
+    }
+
+    @Test
+    public void testIllegalCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<String>(0, () -> 0));
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<String>(10, null));
+    }
+
+    @Test
+    public void testScheduleAndExpire() {
+        FakeClock clock = new FakeClock();
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, clock::get);
+
+        wheel.schedule(0, 5, "a");
+        wheel.schedule(1, 300, "b");
+        wheel.schedule(2, 70_000, "c");
+        wheel.schedule(3, 6, "d");
+        assertEquals(4, wheel.size());
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(0, 1, "x"));
+
+        clock.time = 4;
+        assertTrue(wheel.advance().isEmpty());
+
+        clock.time = 6;
+        assertEquals(Arrays.asList("a", "d"), wheel.advance());
+        assertFalse(wheel.contains(0));
+
+        clock.time = 299;
+        assertTrue(wheel.advance().isEmpty());
+        clock.time = 69_999;
+        assertEquals(List.of("b"), wheel.advance());
+        clock.time = 70_000;
+        assertEquals(List.of("c"), wheel.advance());
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    public void testCancel() {
+        FakeClock clock = new FakeClock();
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, clock::get);
+
+        wheel.schedule(0, 10, "a");
+        wheel.schedule(1, 1L << 40, "far");
+        assertEquals("a", wheel.cancel(0));
+        assertNull(wheel.cancel(0));
+        assertEquals("far", wheel.cancel(1));
+        assertTrue(wheel.isEmpty());
+
+        clock.time = 1L << 41;
+        assertTrue(wheel.advance().isEmpty());
+
+        // timer indexes can be reused after cancel or expiry
+        wheel.schedule(0, clock.time + 1, "b");
+        clock.time++;
+        assertEquals(List.of("b"), wheel.advance());
+    }
+
+    @Test
+    public void testPastDeadline() {
+        FakeClock clock = new FakeClock();
+        clock.time = 100;
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(10, clock::get);
+        wheel.schedule(0, 95, 95);
+        wheel.schedule(1, 99, 99);
+        wheel.schedule(2, 50, 50);
+        wheel.schedule(3, 100, 100);
+        wheel.schedule(4, 101, 101);
+        wheel.schedule(5, 50, 51);
+        assertEquals(Arrays.asList(50, 51, 95, 99, 100), wheel.advance());
+
+        // past deadlines come before the ones reached by moving the clock
+        wheel.schedule(0, 90, 90);
+        clock.time = 101;
+        assertEquals(Arrays.asList(90, 101), wheel.advance());
+    }
+
+    @Test
+    public void testFarFutureDeadlines() {
+        FakeClock clock = new FakeClock();
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, clock::get);
+        long[] deadlines = {1L << 33, (1L << 33) + 1, (1L << 34) + 255, 3L << 40};
+        for (int i = 0; i < deadlines.length; i++) {
+            wheel.schedule(i, deadlines[i], deadlines[i]);
+        }
+        for (long at : deadlines) {
+            clock.time = at - 1;
+            assertTrue(wheel.advance().isEmpty());
+            clock.time = at;
+            assertEquals(List.of(at), wheel.advance());
+        }
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    public void testRandomAgainstNaive() {
+        Random random = new Random();
+        for (int loop = 0; loop < 50; loop++) {
+            int n = 200;
+            FakeClock clock = new FakeClock();
+            clock.time = random.nextInt(1 << 20);
+            HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(n, clock::get);
+            Long[] naive = new Long[n];
+
+            for (int op = 0; op < 2000; op++) {
+                int ti = random.nextInt(n);
+                double r = random.nextDouble();
+                if (r < 0.5) {
+                    if (naive[ti] == null) {
+                        // mostly near deadlines with some reaching into the higher levels
+                        int bits = 1 + random.nextInt(random.nextDouble() < 0.9 ? 12 : 36);
+                        long at = clock.time + (random.nextLong() & ((1L << bits) - 1)) - 2;
+                        wheel.schedule(ti, at, ti);
+                        naive[ti] = at;
+                    }
+                } else if (r < 0.6) {
+                    assertEquals(naive[ti] == null ? null : ti, wheel.cancel(ti));
+                    naive[ti] = null;
+                } else {
+                    clock.time += random.nextInt(random.nextDouble() < 0.95 ? 300 : 100_000);
+                    List<Integer> expected = new ArrayList<>();
+                    Long[] due = naive.clone();
+                    for (int i = 0; i < n; i++) {
+                        if (naive[i] != null && naive[i] <= clock.time) {
+                            expected.add(i);
+                            naive[i] = null;
+                        }
+                    }
+                    expected.sort(Comparator.comparingLong(i -> due[i]));
+                    List<Integer> expired = wheel.advance();
+                    // timers with equal deadlines can come in any order
+                    assertEquals(new HashSet<>(expected), new HashSet<>(expired));
+                    assertEquals(deadlines(expected, due), deadlines(expired, due));
+                }
+                int count = 0;
+                for (Long at : naive) {
+                    if (at != null) count++;
+                }
+                assertEquals(count, wheel.size());
+            }
+        }
+    }
+
+    static List<Long> deadlines(List<Integer> timers, Long[] deadline) {
+        List<Long> out = new ArrayList<>();
+        for (int ti : timers) {
+            out.add(deadline[ti]);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,46 @@
+package com.inders.dsa.datastructures.priorityqueue;
+
+import java.util.Random;
+
+// Compares IndexedDHeap with CacheAlignedIndexedDHeap for several degrees on a
+// large key space. Every round inserts all keys, decreases a random half of them
+// and polls everything. Run the main method directly, this is not part of the
+// unit test suite.
+public class IndexedDHeapBenchmark {
+
+    static final int KEYS = 2_000_000;
+    static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        Integer[] values = new Integer[KEYS];
+        Integer[] decreased = new Integer[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            values[i] = random.nextInt(Integer.MAX_VALUE);
+            decreased[i] = values[i] / 2;
+        }
+
+        for (int d : new int[] {2, 4, 8, 16}) {
+            IndexedDHeap<Integer> plain = new IndexedDHeap<>(d, KEYS);
+            CacheAlignedIndexedDHeap<Integer> aligned = new CacheAlignedIndexedDHeap<>(d, KEYS);
+
+            long plainTime = 0, alignedTime = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                for (int i = 0; i < KEYS; i++) plain.insert(i, values[i]);
+                for (int i = 0; i < KEYS; i += 2) plain.decrease(i, decreased[i]);
+                while (!plain.isEmpty()) plain.pollKeyIndex();
+                plainTime += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                for (int i = 0; i < KEYS; i++) aligned.insert(i, values[i]);
+                for (int i = 0; i < KEYS; i += 2) aligned.decrease(i, decreased[i]);
+                while (!aligned.isEmpty()) aligned.pollKeyIndex();
+                alignedTime += System.nanoTime() - start;
+            }
+
+            System.out.printf("d=%d IndexedDHeap=%d ms CacheAlignedIndexedDHeap=%d ms%n",
+                    d, plainTime / ROUNDS / 1_000_000, alignedTime / ROUNDS / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.inders.dsa.datastructures.priorityqueue;
+
+import java.util.Random;
+
+// Compares IndexedPairingHeap with IndexedDHeap on a decrease key heavy
+// workload like the one of Dijkstra's algorithm on a dense graph. Every round
+// inserts all keys and then runs a fixed sequence of operations of which most
+// decrease the value of a random key still in the heap and the rest poll the
+// minimum, before polling everything that is left. Run the main method
+// directly, this is not part of the unit test suite.
+public class IndexedPairingHeapBenchmark {
+
+    static final int KEYS = 1_000_000;
+    static final int OPS = 8_000_000;
+    static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        Integer[] values = new Integer[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            values[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+        // the same key picks and shrink factors for every heap
+        int[] keys = new int[OPS];
+        double[] shrink = new double[OPS];
+        for (int i = 0; i < OPS; i++) {
+            keys[i] = random.nextInt(KEYS);
+            shrink[i] = random.nextDouble();
+        }
+
+        for (int decreasePercent : new int[] {50, 90, 98}) {
+            long d2 = 0, d4 = 0, pairing = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                d2 += run(new IndexedDHeap<>(2, KEYS), values, keys, shrink, decreasePercent);
+                d4 += run(new IndexedDHeap<>(4, KEYS), values, keys, shrink, decreasePercent);
+                pairing += run(new IndexedPairingHeap<>(KEYS), values, keys, shrink, decreasePercent);
+            }
+            System.out.printf("decreases=%d%%: IndexedDHeap(2)=%d ms IndexedDHeap(4)=%d ms IndexedPairingHeap=%d ms%n",
+                    decreasePercent, d2 / ROUNDS / 1_000_000, d4 / ROUNDS / 1_000_000, pairing / ROUNDS / 1_000_000);
+        }
+    }
+
+    static long run(IndexedDHeap<Integer> heap, Integer[] values, int[] keys, double[] shrink, int decreasePercent) {
+        long start = System.nanoTime();
+        for (int i = 0; i < KEYS; i++) heap.insert(i, values[i]);
+        for (int op = 0; op < OPS; op++) {
+            if (op % 100 < decreasePercent) {
+                int ki = keys[op];
+                if (heap.contains(ki)) heap.decrease(ki, (int) (heap.valueOf(ki) * shrink[op]));
+            } else if (!heap.isEmpty()) {
+                heap.pollKeyIndex();
+            }
+        }
+        while (!heap.isEmpty()) heap.pollKeyIndex();
+        return System.nanoTime() - start;
+    }
+
+    static long run(IndexedPairingHeap<Integer> heap, Integer[] values, int[] keys, double[] shrink, int decreasePercent) {
+        long start = System.nanoTime();
+        for (int i = 0; i < KEYS; i++) heap.insert(i, values[i]);
+        for (int op = 0; op < OPS; op++) {
+            if (op % 100 < decreasePercent) {
+                int ki = keys[op];
+                if (heap.contains(ki)) heap.decrease(ki, (int) (heap.valueOf(ki) * shrink[op]));
+            } else if (!heap.isEmpty()) {
+                heap.pollKeyIndex();
+            }
+        }
+        while (!heap.isEmpty()) heap.pollKeyIndex();
+        return System.nanoTime() - start;
+    }
+}
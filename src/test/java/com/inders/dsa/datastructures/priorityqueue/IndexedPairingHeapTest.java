@@ -0,0 +1,161 @@
+package com.inders.dsa.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexedPairingHeapTest {
+
+    @Test
+    public void testIllegalSizeOfZero() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new IndexedPairingHeap<String>(0));
+    }
+
+    @Test
+    public void testEmpty() {
+        IndexedPairingHeap<Integer> pq = new IndexedPairingHeap<>(5);
+        assertTrue(pq.isEmpty());
+        assertThrows(NoSuchElementException.class, pq::peekKeyIndex);
+        assertThrows(NoSuchElementException.class, pq::pollValue);
+    }
+
+    @Test
+    public void testDuplicateKeys() {
+        IndexedPairingHeap<String> pq = new IndexedPairingHeap<>(10);
+        pq.insert(5, "abcdef");
+        assertThrows(IllegalArgumentException.class, () -> pq.insert(5, "xyz"));
+    }
+
+    @Test
+    public void testDecreaseAndIncreaseKey() {
+        IndexedPairingHeap<Integer> pq = new IndexedPairingHeap<>(10);
+        pq.insert(3, 5);
+        pq.decrease(3, 6);
+        assertEquals(5, pq.valueOf(3));
+        pq.decrease(3, 4);
+        assertEquals(4, pq.valueOf(3));
+        pq.increase(3, 2);
+        assertEquals(4, pq.valueOf(3));
+        pq.increase(3, 7);
+        assertEquals(7, pq.valueOf(3));
+    }
+
+    @Test
+    public void testOperations() {
+        int n = 7;
+        IndexedPairingHeap<Integer> pq = new IndexedPairingHeap<>(n);
+
+        pq.insert(4, 4);
+        assertTrue(pq.contains(4));
+        assertEquals(4, pq.peekValue());
+        assertEquals(4, pq.peekKeyIndex());
+        pq.update(4, 8);
+        assertEquals(8, pq.peekValue());
+        assertEquals(4, pq.pollKeyIndex());
+        assertFalse(pq.contains(4));
+        pq.insert(3, 99);
+        pq.insert(1, 101);
+        pq.insert(2, 60);
+        assertEquals(60, pq.peekValue());
+        assertEquals(2, pq.peekKeyIndex());
+        pq.increase(2, 150);
+        assertEquals(99, pq.peekValue());
+        assertEquals(3, pq.peekKeyIndex());
+        pq.increase(3, 250);
+        assertEquals(101, pq.peekValue());
+        assertEquals(1, pq.peekKeyIndex());
+        pq.decrease(3, -500);
+        assertEquals(-500, pq.peekValue());
+        assertEquals(3, pq.peekKeyIndex());
+        assertTrue(pq.contains(3));
+        pq.delete(3);
+        assertFalse(pq.contains(3));
+        assertEquals(101, pq.peekValue());
+        assertEquals(1, pq.peekKeyIndex());
+        assertEquals(101, pq.valueOf(1));
+        assertTrue(pq.isMinHeap());
+    }
+
+    @Test
+    public void testRandomInsertionsAndPolls() {
+        for (int n = 1; n < 1500; n++) {
+            int[] randomValues = IndexedBinaryHeapTest.genRandArray(n, -100000, 100000);
+            IndexedPairingHeap<Integer> pq1 = new IndexedPairingHeap<>(n);
+            PriorityQueue<Integer> pq2 = new PriorityQueue<>(n);
+
+            final double p = Math.random();
+
+            for (int i = 0; i < n; i++) {
+                pq1.insert(i, randomValues[i]);
+                pq2.add(randomValues[i]);
+
+                if (Math.random() < p) {
+                    assertEquals(pq2.poll(), pq1.pollValue());
+                }
+
+                assertEquals(pq2.size(), pq1.size());
+                if (!pq2.isEmpty()) {
+                    assertEquals(pq2.peek(), pq1.peekValue());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRandomOperationsAgainstIndexedBinaryHeap() {
+        for (int loop = 0; loop < 200; loop++) {
+            int n = 1 + (int) (Math.random() * 200);
+            IndexedPairingHeap<Integer> pq1 = new IndexedPairingHeap<>(n);
+            IndexedBinaryHeap<Integer> pq2 = new IndexedBinaryHeap<>(n);
+
+            for (int op = 0; op < 5 * n; op++) {
+                int ki = (int) (Math.random() * n);
+                int value = (int) (Math.random() * 1000);
+                double r = Math.random();
+
+                if (!pq2.contains(ki)) {
+                    pq1.insert(ki, value);
+                    pq2.insert(ki, value);
+                } else if (r < 0.3) {
+                    pq1.decrease(ki, value);
+                    pq2.decrease(ki, value);
+                } else if (r < 0.5) {
+                    pq1.increase(ki, value);
+                    pq2.increase(ki, value);
+                } else if (r < 0.6) {
+                    assertEquals(pq2.update(ki, value), pq1.update(ki, value));
+                } else if (r < 0.8) {
+                    assertEquals(pq2.delete(ki), pq1.delete(ki));
+                } else {
+                    // ties may be broken differently, so poll the same key index from both
+                    int minKey = pq1.peekKeyIndex();
+                    assertEquals(pq2.peekValue(), pq1.valueOf(minKey));
+                    assertEquals(pq2.delete(minKey), pq1.pollValue());
+                }
+
+                assertEquals(pq2.size(), pq1.size());
+                if (!pq2.isEmpty()) {
+                    assertEquals(pq2.peekValue(), pq1.peekValue());
+                }
+                assertTrue(pq1.isMinHeap());
+            }
+
+            List<Integer> polled1 = new ArrayList<>(), polled2 = new ArrayList<>();
+            while (!pq2.isEmpty()) {
+                polled1.add(pq1.pollValue());
+                polled2.add(pq2.pollValue());
+            }
+            assertEquals(polled2, polled1);
+            assertTrue(pq1.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.inders.dsa.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexedRadixHeapTest {
+
+    @Test
+    public void testIllegalSizeOfZero() {
+        assertThrows(IllegalArgumentException.class, () -> new IndexedRadixHeap(0));
+    }
+
+    @Test
+    public void testEmpty() {
+        IndexedRadixHeap pq = new IndexedRadixHeap(5);
+        assertTrue(pq.isEmpty());
+        assertThrows(NoSuchElementException.class, pq::peekKeyIndex);
+        assertThrows(NoSuchElementException.class, pq::pollValue);
+    }
+
+    @Test
+    public void testNegativeValue() {
+        IndexedRadixHeap pq = new IndexedRadixHeap(5);
+        assertThrows(IllegalArgumentException.class, () -> pq.insert(0, -1));
+    }
+
+    @Test
+    public void testNonMonotoneValue() {
+        IndexedRadixHeap pq = new IndexedRadixHeap(5);
+        pq.insert(0, 10);
+        pq.insert(1, 20);
+        assertEquals(0, pq.pollKeyIndex());
+        assertEquals(10, pq.lastPolled());
+        assertThrows(IllegalArgumentException.class, () -> pq.insert(2, 9));
+        assertThrows(IllegalArgumentException.class, () -> pq.decrease(1, 9));
+        pq.insert(2, 10);
+        assertEquals(2, pq.pollKeyIndex());
+    }
+
+    @Test
+    public void testOperations() {
+        IndexedRadixHeap pq = new IndexedRadixHeap(7);
+
+        pq.insert(4, 4);
+        assertTrue(pq.contains(4));
+        assertEquals(4, pq.peekValue());
+        assertEquals(4, pq.pollKeyIndex());
+        assertFalse(pq.contains(4));
+        pq.insert(3, 99);
+        pq.insert(1, 101);
+        pq.insert(2, 60);
+        assertEquals(60, pq.peekValue());
+        assertEquals(2, pq.peekKeyIndex());
+        pq.decrease(3, 50);
+        assertEquals(50, pq.peekValue());
+        assertEquals(3, pq.peekKeyIndex());
+        pq.decrease(3, 70);
+        assertEquals(50, pq.valueOf(3));
+        assertEquals(50, pq.delete(3));
+        assertFalse(pq.contains(3));
+        assertEquals(60, pq.pollValue());
+        assertEquals(101, pq.pollValue());
+        assertTrue(pq.isEmpty());
+    }
+
+    @Test
+    public void testMonotoneRandomOperations() {
+        for (int loop = 0; loop < 200; loop++) {
+            int n = 1 + (int) (Math.random() * 200);
+            IndexedRadixHeap pq1 = new IndexedRadixHeap(n);
+            IndexedBinaryHeap<Long> pq2 = new IndexedBinaryHeap<>(n);
+            long last = 0;
+
+            for (int op = 0; op < 5 * n; op++) {
+                int ki = (int) (Math.random() * n);
+                long value = last + (long) (Math.random() * 1000);
+                double r = Math.random();
+
+                if (!pq2.contains(ki)) {
+                    pq1.insert(ki, value);
+                    pq2.insert(ki, value);
+                } else if (r < 0.4) {
+                    pq1.decrease(ki, value);
+                    pq2.decrease(ki, value);
+                } else if (r < 0.5) {
+                    assertEquals(pq2.delete(ki), pq1.delete(ki));
+                } else {
+                    // ties may be broken differently, so poll the same key index from both
+                    last = pq2.peekValue();
+                    int minKey = pq1.pollKeyIndex();
+                    assertEquals(last, pq2.delete(minKey));
+                    assertEquals(last, pq1.lastPolled());
+                }
+
+                assertEquals(pq2.size(), pq1.size());
+                if (!pq2.isEmpty()) {
+                    assertEquals(pq2.peekValue(), pq1.peekValue());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLargeValues() {
+        IndexedRadixHeap pq = new IndexedRadixHeap(100);
+        PriorityQueue<Long> pq2 = new PriorityQueue<>();
+        for (int i = 0; i < 100; i++) {
+            long value = (long) (Math.random() * Long.MAX_VALUE);
+            pq.insert(i, value);
+            pq2.add(value);
+        }
+        while (!pq2.isEmpty()) {
+            assertEquals(pq2.poll(), pq.pollValue());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.inders.dsa.datastructures.priorityqueue;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// Contention benchmark of MultiQueueHeap against a BinaryHeap guarded by one lock.
+// Every thread runs a 50/50 mix of add and poll on a pre-filled heap for a fixed
+// time and the total number of operations per second is printed per thread count.
+// Run the main method directly, this is not part of the unit test suite.
+public class MultiQueueHeapBenchmark {
+
+    static final int PREFILL = 1_000_000;
+    static final long DURATION_MS = 2000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            MultiQueueHeap<Integer> multiQueue = new MultiQueueHeap<>(2 * threads, 2, 4, 2 * PREFILL);
+            Heap<Integer> locked = new SynchronizedHeap<>(new BinaryHeap<Integer>(2 * PREFILL));
+
+            System.out.printf("threads=%d multiqueue=%.0f ops/s synchronized=%.0f ops/s%n",
+                    threads, run(multiQueue, threads), run(locked, threads));
+        }
+    }
+
+    static double run(Heap<Integer> heap, int threads) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < PREFILL; i++) {
+            heap.add(random.nextInt());
+        }
+
+        LongAdder ops = new LongAdder();
+        long deadline = System.currentTimeMillis() + DURATION_MS;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom r = ThreadLocalRandom.current();
+                long count = 0;
+                while ((count & 1023) != 0 || System.currentTimeMillis() < deadline) {
+                    if (r.nextBoolean()) {
+                        heap.add(r.nextInt());
+                    } else {
+                        heap.poll();
+                    }
+                    count++;
+                }
+                ops.add(count);
+            });
+            workers[t].start();
+        }
+        for (Thread w : workers) {
+            w.join();
+        }
+        return ops.sum() * 1000.0 / DURATION_MS;
+    }
+
+    // a heap where every operation holds the same monitor
+    static final class SynchronizedHeap<T extends Comparable<T>> implements Heap<T> {
+        private final Heap<T> heap;
+
+        SynchronizedHeap(Heap<T> heap) {
+            this.heap = heap;
+        }
+
+        @Override public synchronized int size() { return heap.size(); }
+        @Override public synchronized boolean isEmpty() { return heap.isEmpty(); }
+        @Override public synchronized void clear() { heap.clear(); }
+        @Override public synchronized void add(T elem) { heap.add(elem); }
+        @Override public synchronized T peek() { return heap.peek(); }
+        @Override public synchronized T poll() { return heap.poll(); }
+        @Override public synchronized boolean remove(T elem) { return heap.remove(elem); }
+        @Override public synchronized boolean contains(T elem) { return heap.contains(elem); }
+    }
+}
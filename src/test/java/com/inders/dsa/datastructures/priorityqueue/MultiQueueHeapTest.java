@@ -0,0 +1,149 @@
+package com.inders.dsa.datastructures.priorityqueue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MultiQueueHeapTest {
+
+    static final int LOOPS = 100;
+
+    @Test
+    public void testIllegalCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new MultiQueueHeap<Integer>(0, 2, 4, 10));
+        assertThrows(IllegalArgumentException.class, () -> new MultiQueueHeap<Integer>(4, 0, 4, 10));
+        assertThrows(IllegalArgumentException.class, () -> new MultiQueueHeap<Integer>(4, 2, 4, 0));
+    }
+
+    @Test
+    public void testEmpty() {
+        MultiQueueHeap<Integer> q = new MultiQueueHeap<>(10);
+        assertEquals(0, q.size());
+        assertTrue(q.isEmpty());
+        assertNull(q.poll());
+        assertNull(q.peek());
+    }
+
+    @Test
+    public void testFull() {
+        MultiQueueHeap<Integer> q = new MultiQueueHeap<>(2, 2, 2, 3);
+        for (int i = 0; i < 6; i++) {
+            q.add(i);
+        }
+        assertThrows(IllegalStateException.class, () -> q.add(6));
+    }
+
+    @Test
+    public void testStrictWhenSamplingEveryQueue() {
+        for (int loop = 0; loop < LOOPS; loop++) {
+            Integer[] ar = DHeapTest.genRandArray(LOOPS);
+            MultiQueueHeap<Integer> q = new MultiQueueHeap<>(4, 4, 3, LOOPS);
+            PriorityQueue<Integer> pq = new PriorityQueue<>();
+            for (int x : ar) {
+                q.add(x);
+                pq.add(x);
+            }
+            assertEquals(pq.peek(), q.peek());
+            while (!pq.isEmpty()) {
+                assertEquals(pq.poll(), q.poll());
+            }
+            assertTrue(q.isEmpty());
+        }
+    }
+
+    @Test
+    public void testRelaxedPollReturnsEveryElement() {
+        List<Integer> in = DHeapTest.genRandList(1000);
+        MultiQueueHeap<Integer> q = new MultiQueueHeap<>(8, 2, 4, in.size());
+        for (int x : in) {
+            q.add(x);
+        }
+        assertEquals(in.size(), q.size());
+        assertTrue(q.contains(in.get(0)));
+        assertFalse(q.contains(-1));
+
+        List<Integer> out = new ArrayList<>();
+        for (Integer x = q.poll(); x != null; x = q.poll()) {
+            out.add(x);
+        }
+        Collections.sort(in);
+        Collections.sort(out);
+        assertEquals(in, out);
+    }
+
+    @Test
+    public void testRemove() {
+        MultiQueueHeap<Integer> q = new MultiQueueHeap<>(4, 4, 3, 100);
+        for (int i = 0; i < 100; i++) {
+            q.add(i);
+        }
+        assertFalse(q.remove(100));
+        for (int i = 0; i < 100; i += 2) {
+            assertTrue(q.remove(i));
+            assertFalse(q.contains(i));
+        }
+        assertEquals(50, q.size());
+        assertEquals(1, q.peek());
+        for (int i = 1; i < 100; i += 2) {
+            assertEquals(i, q.poll());
+        }
+        assertTrue(q.isEmpty());
+    }
+
+    @Test
+    public void testClear() {
+        MultiQueueHeap<String> q = new MultiQueueHeap<>(4, 2, 2, 5);
+        for (String s : new String[] {"aa", "bb", "cc", "dd", "ee"}) {
+            q.add(s);
+        }
+        q.clear();
+        assertEquals(0, q.size());
+        assertTrue(q.isEmpty());
+        assertNull(q.poll());
+    }
+
+    @Test
+    public void testConcurrentAddAndPoll() throws InterruptedException {
+        final int threads = 4, perThread = 10000;
+        MultiQueueHeap<Integer> q = new MultiQueueHeap<>(2 * threads, 2, 4, threads * perThread);
+        ConcurrentLinkedQueue<Integer> polled = new ConcurrentLinkedQueue<>();
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int base = t * perThread;
+            workers.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    q.add(base + i);
+                    if (i % 2 == 0) {
+                        Integer x = q.poll();
+                        if (x != null) {
+                            polled.add(x);
+                        }
+                    }
+                }
+            }));
+        }
+        for (Thread w : workers) w.start();
+        for (Thread w : workers) w.join();
+
+        for (Integer x = q.poll(); x != null; x = q.poll()) {
+            polled.add(x);
+        }
+        List<Integer> out = new ArrayList<>(polled);
+        Collections.sort(out);
+        assertEquals(threads * perThread, out.size());
+        for (int i = 0; i < out.size(); i++) {
+            assertEquals(i, out.get(i));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.inders.dsa.datastructures.segmenttree;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LazySegmentTreeTest {
+
+    @Test
+    public void testIllegalCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new LazySegmentTree(null));
+        assertThrows(IllegalArgumentException.class, () -> new LazySegmentTree(0));
+    }
+
+    @Test
+    public void testRangeAddAndAssign() {
+        LazySegmentTree st = new LazySegmentTree(new long[]{1, 2, 3, 4, 5});
+        st.rangeAdd(1, 3, 10);
+        assertEquals(45, st.sum(0, 4));
+        assertEquals(1, st.min(0, 4));
+        assertEquals(14, st.max(0, 4));
+
+        st.rangeAssign(0, 2, -1);
+        assertEquals(16, st.sum(0, 4));
+        assertEquals(-1, st.min(0, 2));
+        assertEquals(14, st.max(2, 4));
+
+        st.rangeAdd(2, 4, 1);
+        assertEquals(0, st.get(2));
+        assertEquals(-1, st.get(1));
+        st.set(1, 100);
+        assertEquals(100, st.max(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> st.sum(3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> st.rangeAdd(0, 5, 1));
+    }
+
+    @Test
+    public void testRandomAgainstNaiveArray() {
+        Random random = new Random();
+        for (int n : new int[]{1, 2, 7, 64, 100}) {
+            long[] values = new long[n];
+            for (int i = 0; i < n; i++) values[i] = random.nextInt(2000) - 1000;
+            LazySegmentTree st = new LazySegmentTree(values);
+
+            for (int loop = 0; loop < 1000; loop++) {
+                int lo = random.nextInt(n), hi = lo + random.nextInt(n - lo);
+                long v = random.nextInt(2000) - 1000;
+                int op = random.nextInt(3);
+                if (op == 0) {
+                    st.rangeAdd(lo, hi, v);
+                    for (int i = lo; i <= hi; i++) values[i] += v;
+                } else if (op == 1) {
+                    st.rangeAssign(lo, hi, v);
+                    for (int i = lo; i <= hi; i++) values[i] = v;
+                } else {
+                    long s = 0, mn = Long.MAX_VALUE, mx = Long.MIN_VALUE;
+                    for (int i = lo; i <= hi; i++) {
+                        s += values[i];
+                        mn = Math.min(mn, values[i]);
+                        mx = Math.max(mx, values[i]);
+                    }
+                    assertEquals(s, st.sum(lo, hi));
+                    assertEquals(mn, st.min(lo, hi));
+                    assertEquals(mx, st.max(lo, hi));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.inders.dsa.datastructures.segmenttree;
+
+import com.inders.dsa.datastructures.fenwicktree.FenwickTreeRangeQueryPointUpdate;
+import com.inders.dsa.datastructures.fenwicktree.FenwickTreeRangeUpdateRangeQuery;
+
+import java.util.Random;
+
+// Sum workloads on the segment trees compared with the Fenwick trees: point
+// updates with range sums, then range adds with range sums.
+// Run the main method directly, this is not part of the unit test suite.
+public class SegmentTreeBenchmark {
+
+    static final int N = 1 << 20;
+    static final int OPS = 5_000_000;
+    static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        long[] values = new long[N + 1];
+        for (int i = 1; i <= N; i++) values[i] = random.nextInt(1000);
+        int[] lo = new int[OPS], hi = new int[OPS];
+        for (int k = 0; k < OPS; k++) {
+            int a = 1 + random.nextInt(N), b = 1 + random.nextInt(N);
+            lo[k] = Math.min(a, b);
+            hi[k] = Math.max(a, b);
+        }
+        long[] zeroBased = new long[N];
+        System.arraycopy(values, 1, zeroBased, 0, N);
+
+        long fenwick = Long.MAX_VALUE, segment = Long.MAX_VALUE, check = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            FenwickTreeRangeQueryPointUpdate ft = new FenwickTreeRangeQueryPointUpdate(values.clone());
+            long start = System.nanoTime();
+            for (int k = 0; k < OPS; k++) {
+                if ((k & 1) == 0) ft.add(lo[k], 1);
+                else check += ft.sum(lo[k], hi[k]);
+            }
+            fenwick = Math.min(fenwick, System.nanoTime() - start);
+
+            SegmentTree st = SegmentTree.sum(zeroBased);
+            start = System.nanoTime();
+            for (int k = 0; k < OPS; k++) {
+                if ((k & 1) == 0) st.set(lo[k] - 1, st.get(lo[k] - 1) + 1);
+                else check -= st.query(lo[k] - 1, hi[k] - 1);
+            }
+            segment = Math.min(segment, System.nanoTime() - start);
+        }
+        System.out.printf("point update + range sum: FenwickTreeRangeQueryPointUpdate=%d ms SegmentTree=%d ms%n",
+                fenwick / 1_000_000, segment / 1_000_000);
+
+        fenwick = Long.MAX_VALUE;
+        segment = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            FenwickTreeRangeUpdateRangeQuery ft = new FenwickTreeRangeUpdateRangeQuery(values.clone());
+            long start = System.nanoTime();
+            for (int k = 0; k < OPS; k++) {
+                if ((k & 1) == 0) ft.updateRange(lo[k], hi[k], 1);
+                else check += ft.sum(lo[k], hi[k]);
+            }
+            fenwick = Math.min(fenwick, System.nanoTime() - start);
+
+            LazySegmentTree st = new LazySegmentTree(zeroBased);
+            start = System.nanoTime();
+            for (int k = 0; k < OPS; k++) {
+                if ((k & 1) == 0) st.rangeAdd(lo[k] - 1, hi[k] - 1, 1);
+                else check -= st.sum(lo[k] - 1, hi[k] - 1);
+            }
+            segment = Math.min(segment, System.nanoTime() - start);
+        }
+        System.out.printf("range add + range sum: FenwickTreeRangeUpdateRangeQuery=%d ms LazySegmentTree=%d ms%n",
+                fenwick / 1_000_000, segment / 1_000_000);
+
+        if (check != 0) {
+            throw new AssertionError("Fenwick and segment tree sums differ");
+        }
+    }
+}
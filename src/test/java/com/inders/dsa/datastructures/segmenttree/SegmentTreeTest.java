@@ -0,0 +1,115 @@
+package com.inders.dsa.datastructures.segmenttree;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SegmentTreeTest {
+
+    static final long MOD = 1_000_003;
+    static final long IDENTITY = MOD;
+
+    @Test
+    public void testIllegalCreation() {
+        assertThrows(IllegalArgumentException.class, () -> SegmentTree.sum(null));
+        assertThrows(IllegalArgumentException.class, () -> new SegmentTree(new long[1], null, 0));
+    }
+
+    @Test
+    public void testSimpleQueries() {
+        long[] values = {5, -2, 7, 1, 3};
+        SegmentTree sum = SegmentTree.sum(values);
+        SegmentTree min = SegmentTree.min(values);
+        SegmentTree max = SegmentTree.max(values);
+
+        assertEquals(14, sum.query(0, 4));
+        assertEquals(6, sum.query(1, 3));
+        assertEquals(-2, min.query(0, 4));
+        assertEquals(1, min.query(2, 4));
+        assertEquals(7, max.query(0, 4));
+        assertEquals(3, max.query(3, 4));
+
+        min.set(1, 10);
+        assertEquals(1, min.query(0, 4));
+        assertEquals(10, min.get(1));
+        assertThrows(IllegalArgumentException.class, () -> sum.query(3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> sum.query(0, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> sum.set(-1, 0));
+    }
+
+    // affine maps x -> a * x + b mod MOD packed as a * MOD + b, composing them is
+    // associative but not commutative so the left and right partial results of a
+    // query must be kept in order. Every range of every size up to 70 is checked
+    // against a left to right fold, before and after point updates
+    @Test
+    public void testNonCommutativeCombiner() {
+        Random random = new Random();
+        for (int n = 1; n <= 70; n++) {
+            long[] values = new long[n];
+            for (int i = 0; i < n; i++) values[i] = randomAffine(random);
+            SegmentTree st = new SegmentTree(values, SegmentTreeTest::compose, IDENTITY);
+            checkAllRanges(st, values);
+
+            for (int k = 0; k < 3; k++) {
+                int i = random.nextInt(n);
+                values[i] = randomAffine(random);
+                st.set(i, values[i]);
+            }
+            checkAllRanges(st, values);
+        }
+    }
+
+    static void checkAllRanges(SegmentTree st, long[] values) {
+        for (int lo = 0; lo < values.length; lo++) {
+            long expected = IDENTITY;
+            for (int hi = lo; hi < values.length; hi++) {
+                expected = compose(expected, values[hi]);
+                assertEquals(expected, st.query(lo, hi));
+            }
+        }
+    }
+
+    static long randomAffine(Random random) {
+        return (1 + random.nextInt((int) MOD - 1)) * MOD + random.nextInt((int) MOD);
+    }
+
+    // apply f first and then g, for f = a1 * x + b1 and g = a2 * x + b2
+    static long compose(long f, long g) {
+        long a1 = f / MOD, b1 = f % MOD, a2 = g / MOD, b2 = g % MOD;
+        return (a1 * a2 % MOD) * MOD + (a2 * b1 + b2) % MOD;
+    }
+
+    @Test
+    public void testRandomAgainstNaiveArray() {
+        Random random = new Random();
+        for (int n : new int[]{1, 2, 7, 64, 100}) {
+            long[] values = new long[n];
+            for (int i = 0; i < n; i++) values[i] = random.nextInt(2000) - 1000;
+            SegmentTree sum = SegmentTree.sum(values);
+            SegmentTree min = SegmentTree.min(values);
+            SegmentTree max = SegmentTree.max(values);
+
+            for (int loop = 0; loop < 500; loop++) {
+                int lo = random.nextInt(n), hi = lo + random.nextInt(n - lo);
+                long s = 0, mn = Long.MAX_VALUE, mx = Long.MIN_VALUE;
+                for (int i = lo; i <= hi; i++) {
+                    s += values[i];
+                    mn = Math.min(mn, values[i]);
+                    mx = Math.max(mx, values[i]);
+                }
+                assertEquals(s, sum.query(lo, hi));
+                assertEquals(mn, min.query(lo, hi));
+                assertEquals(mx, max.query(lo, hi));
+
+                int i = random.nextInt(n);
+                values[i] = random.nextInt(2000) - 1000;
+                sum.set(i, values[i]);
+                min.set(i, values[i]);
+                max.set(i, values[i]);
+            }
+        }
+    }
+}
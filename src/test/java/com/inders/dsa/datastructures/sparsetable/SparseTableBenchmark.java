@@ -0,0 +1,64 @@
+package com.inders.dsa.datastructures.sparsetable;
+
+import com.inders.dsa.datastructures.fenwicktree.FenwickTreeRangeQueryPointUpdate;
+import com.inders.dsa.datastructures.segmenttree.SegmentTree;
+
+import java.util.Random;
+
+// Range query cost of the O(1) SparseTable compared with O(log(n)) tree queries:
+// range min on a SegmentTree and range sum on FenwickTreeRangeQueryPointUpdate.
+// Also times the sequential and the fork join build.
+// Run the main method directly, this is not part of the unit test suite.
+public class SparseTableBenchmark {
+
+    static final int N = 1 << 22;
+    static final int QUERIES = 20_000_000;
+    static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        long[] values = new long[N];
+        for (int i = 0; i < N; i++) values[i] = random.nextInt();
+        int[] lo = new int[QUERIES], hi = new int[QUERIES];
+        for (int k = 0; k < QUERIES; k++) {
+            int a = random.nextInt(N), b = random.nextInt(N);
+            lo[k] = Math.min(a, b);
+            hi[k] = Math.max(a, b);
+        }
+
+        long sequentialBuild = Long.MAX_VALUE, parallelBuild = Long.MAX_VALUE;
+        SparseTable table = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            table = SparseTable.min(values);
+            sequentialBuild = Math.min(sequentialBuild, System.nanoTime() - start);
+            start = System.nanoTime();
+            table = SparseTable.parallel(values, Math::min);
+            parallelBuild = Math.min(parallelBuild, System.nanoTime() - start);
+        }
+        System.out.printf("build: sequential=%d ms parallel=%d ms (%d threads)%n", sequentialBuild / 1_000_000,
+                parallelBuild / 1_000_000, Runtime.getRuntime().availableProcessors());
+
+        SegmentTree segmentTree = SegmentTree.min(values);
+        long[] oneBased = new long[N + 1];
+        System.arraycopy(values, 0, oneBased, 1, N);
+        FenwickTreeRangeQueryPointUpdate fenwick = new FenwickTreeRangeQueryPointUpdate(oneBased);
+
+        long sparse = Long.MAX_VALUE, segment = Long.MAX_VALUE, fenwickTime = Long.MAX_VALUE, blackhole = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int k = 0; k < QUERIES; k++) blackhole += table.query(lo[k], hi[k]);
+            sparse = Math.min(sparse, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int k = 0; k < QUERIES; k++) blackhole -= segmentTree.query(lo[k], hi[k]);
+            segment = Math.min(segment, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int k = 0; k < QUERIES; k++) blackhole += fenwick.sum(lo[k] + 1, hi[k] + 1);
+            fenwickTime = Math.min(fenwickTime, System.nanoTime() - start);
+        }
+        System.out.printf("queries: SparseTable min=%d ms SegmentTree min=%d ms Fenwick sum=%d ms (%d)%n",
+                sparse / 1_000_000, segment / 1_000_000, fenwickTime / 1_000_000, blackhole & 1);
+    }
+}
@@ -0,0 +1,81 @@
+package com.inders.dsa.datastructures.sparsetable;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SparseTableTest {
+
+    @Test
+    public void testIllegalCreation() {
+        assertThrows(IllegalArgumentException.class, () -> SparseTable.min(null));
+        assertThrows(IllegalArgumentException.class, () -> new SparseTable(new long[1], null));
+    }
+
+    @Test
+    public void testSimpleQueries() {
+        long[] values = {5, -2, 7, 1, 3, 9};
+        SparseTable min = SparseTable.min(values);
+        SparseTable max = SparseTable.max(values);
+
+        assertEquals(-2, min.query(0, 5));
+        assertEquals(1, min.query(2, 5));
+        assertEquals(3, min.query(4, 5));
+        assertEquals(9, max.query(0, 5));
+        assertEquals(7, max.query(0, 4));
+        assertEquals(1, max.get(3));
+        assertThrows(IllegalArgumentException.class, () -> min.query(3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> min.query(0, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> SparseTable.min(new long[0]).query(0, 0));
+    }
+
+    @Test
+    public void testRandomAgainstNaiveArray() {
+        Random random = new Random();
+        for (int n : new int[]{1, 2, 3, 17, 64, 300}) {
+            long[] values = new long[n];
+            for (int i = 0; i < n; i++) values[i] = random.nextInt(2000) - 1000;
+            SparseTable min = SparseTable.min(values);
+            SparseTable gcd = new SparseTable(values, SparseTableTest::gcd);
+
+            for (int lo = 0; lo < n; lo++) {
+                long mn = Long.MAX_VALUE, g = 0;
+                for (int hi = lo; hi < n; hi++) {
+                    mn = Math.min(mn, values[hi]);
+                    g = gcd(g, values[hi]);
+                    assertEquals(mn, min.query(lo, hi));
+                    assertEquals(g, gcd.query(lo, hi));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParallelBuildMatchesSequential() {
+        Random random = new Random();
+        int n = 200_000;
+        long[] values = new long[n];
+        for (int i = 0; i < n; i++) values[i] = random.nextLong();
+        SparseTable sequential = SparseTable.max(values);
+        SparseTable parallel = SparseTable.parallel(values, Math::max);
+
+        for (int loop = 0; loop < 10000; loop++) {
+            int lo = random.nextInt(n), hi = lo + random.nextInt(n - lo);
+            assertEquals(sequential.query(lo, hi), parallel.query(lo, hi));
+        }
+    }
+
+    static long gcd(long a, long b) {
+        a = Math.abs(a);
+        b = Math.abs(b);
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,66 @@
+package com.inders.dsa.datastructures.unionfind;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompactUnionFindTest {
+
+    @Test
+    public void testComponentSize() {
+        CompactUnionFind uf = new CompactUnionFind(5);
+        assertEquals(1, uf.componentSize(3));
+
+        uf.unify(0, 1);
+        assertEquals(2, uf.componentSize(0));
+        assertEquals(2, uf.componentSize(1));
+        assertEquals(4, uf.components());
+
+        uf.unify(1, 0);
+        assertEquals(2, uf.componentSize(1));
+        assertEquals(4, uf.components());
+
+        uf.unify(3, 4);
+        uf.unify(4, 1);
+        assertEquals(4, uf.componentSize(3));
+        assertEquals(1, uf.componentSize(2));
+        assertEquals(2, uf.components());
+        assertTrue(uf.connected(0, 3));
+        assertFalse(uf.connected(0, 2));
+        assertEquals(5, uf.size());
+    }
+
+    // same tie breaking as UnionFind, so even the roots must match
+    @Test
+    public void testRandomAgainstUnionFind() {
+        Random random = new Random();
+        int n = 1000;
+        UnionFind expected = new UnionFind(n);
+        CompactUnionFind uf = new CompactUnionFind(n);
+        for (int k = 0; k < 5000; k++) {
+            int i = random.nextInt(n), j = random.nextInt(n);
+            if (random.nextBoolean()) {
+                expected.unify(i, j);
+                uf.unify(i, j);
+            } else {
+                assertEquals(expected.connected(i, j), uf.connected(i, j));
+            }
+            assertEquals(expected.find(i), uf.find(i));
+            assertEquals(expected.componentSize(j), uf.componentSize(j));
+            assertEquals(expected.components(), uf.components());
+        }
+    }
+
+    @ParameterizedTest(name = "Size: {0}")
+    @ValueSource(ints = {-1, -3463, 0})
+    public void testBadUnionFindCreation(int size) {
+        assertThrows(IllegalArgumentException.class, () -> new CompactUnionFind(size));
+    }
+}
@@ -0,0 +1,57 @@
+package com.inders.dsa.datastructures.unionfind;
+
+import java.util.Random;
+
+// Edge ingest throughput of ConcurrentUnionFind for 1, 2, 4, ... threads each
+// taking an equal share of the edges, compared with a single threaded UnionFind.
+// Run the main method directly, this is not part of the unit test suite.
+public class ConcurrentUnionFindBenchmark {
+
+    static final int NODES = 10_000_000;
+    static final int EDGES = 20_000_000;
+    static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws InterruptedException {
+        Random random = new Random(42);
+        int[] from = new int[EDGES], to = new int[EDGES];
+        for (int e = 0; e < EDGES; e++) {
+            from[e] = random.nextInt(NODES);
+            to[e] = random.nextInt(NODES);
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            UnionFind uf = new UnionFind(NODES);
+            long start = System.nanoTime();
+            for (int e = 0; e < EDGES; e++) {
+                uf.unify(from[e], to[e]);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("UnionFind: %.1f M edges/s%n", EDGES * 1e3 / best);
+
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            best = Long.MAX_VALUE;
+            for (int round = 0; round < ROUNDS; round++) {
+                ConcurrentUnionFind uf = new ConcurrentUnionFind(NODES);
+                Thread[] workers = new Thread[threads];
+                long start = System.nanoTime();
+                for (int t = 0; t < threads; t++) {
+                    final int lo = (int) ((long) EDGES * t / threads), hi = (int) ((long) EDGES * (t + 1) / threads);
+                    workers[t] = new Thread(() -> {
+                        for (int e = lo; e < hi; e++) {
+                            uf.unify(from[e], to[e]);
+                        }
+                    });
+                    workers[t].start();
+                }
+                for (Thread w : workers) {
+                    w.join();
+                }
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            System.out.printf("ConcurrentUnionFind threads=%d: %.1f M edges/s%n", threads, EDGES * 1e3 / best);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.inders.dsa.datastructures.unionfind;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentUnionFindTest {
+
+    @Test
+    public void testNumComponents() {
+
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(5);
+        assertEquals(5, uf.components());
+
+        assertTrue(uf.unify(0, 1));
+        assertEquals(4, uf.components());
+
+        assertFalse(uf.unify(1, 0));
+        assertEquals(4, uf.components());
+
+        uf.unify(1, 2);
+        assertEquals(3, uf.components());
+
+        uf.unify(0, 2);
+        assertEquals(3, uf.components());
+
+        uf.unify(3, 4);
+        assertEquals(2, uf.components());
+
+        uf.unify(1, 3);
+        assertEquals(1, uf.components());
+        assertEquals(5, uf.size());
+    }
+
+    @Test
+    public void testConnectivity() {
+
+        int sz = 7;
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(sz);
+
+        uf.unify(0, 2);
+        uf.unify(3, 1);
+        uf.unify(2, 5);
+
+        assertTrue(uf.connected(0, 5));
+        assertTrue(uf.connected(5, 2));
+        assertTrue(uf.connected(1, 3));
+        assertFalse(uf.connected(0, 1));
+        assertFalse(uf.connected(4, 6));
+
+        uf.unify(1, 2);
+        uf.unify(3, 4);
+        uf.unify(4, 6);
+
+        for (int i = 0; i < sz; i++) {
+            for (int j = 0; j < sz; j++) {
+                assertTrue(uf.connected(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentUnifyMatchesSequential() throws InterruptedException {
+        final int n = 20000, edges = 15000, threads = 4;
+        Random random = new Random();
+        int[] from = new int[edges], to = new int[edges];
+        for (int e = 0; e < edges; e++) {
+            from[e] = random.nextInt(n);
+            to[e] = random.nextInt(n);
+        }
+
+        UnionFind expected = new UnionFind(n);
+        for (int e = 0; e < edges; e++) {
+            expected.unify(from[e], to[e]);
+        }
+
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            workers[t] = new Thread(() -> {
+                for (int e = id; e < edges; e += threads) {
+                    uf.unify(from[e], to[e]);
+                    uf.connected(from[(e * 7) % edges], to[e]);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread w : workers) {
+            w.join();
+        }
+
+        assertEquals(expected.components(), uf.components());
+        for (int i = 0; i < n; i++) {
+            assertEquals(expected.connected(i, (i * 31) % n), uf.connected(i, (i * 31) % n));
+            assertEquals(expected.find(i) == expected.find(from[i % edges]), uf.find(i) == uf.find(from[i % edges]));
+        }
+    }
+
+    @ParameterizedTest(name = "Size: {0}")
+    @ValueSource(ints = {-1, -3463, 0})
+    public void testBadUnionFindCreation(int size) {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentUnionFind(size));
+    }
+}
@@ -0,0 +1,64 @@
+package com.inders.dsa.datastructures.unionfind;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GrowableUnionFindTest {
+
+    @Test
+    public void testMakeSet() {
+        GrowableUnionFind uf = new GrowableUnionFind(1);
+        assertEquals(0, uf.size());
+        assertEquals(0, uf.components());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, uf.makeSet());
+            assertEquals(i + 1, uf.size());
+            assertEquals(i + 1, uf.components());
+            assertEquals(1, uf.componentSize(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> uf.find(100));
+        assertThrows(IllegalArgumentException.class, () -> new GrowableUnionFind(-1));
+    }
+
+    @Test
+    public void testUnifyAcrossGrowth() {
+        GrowableUnionFind uf = new GrowableUnionFind(2);
+        uf.makeSet();
+        uf.makeSet();
+        uf.unify(0, 1);
+        for (int i = 2; i < 50; i++) {
+            uf.makeSet();
+            uf.unify(i - 1, i);
+            assertEquals(i + 1, uf.componentSize(0));
+            assertEquals(1, uf.components());
+        }
+        int lonely = uf.makeSet();
+        assertFalse(uf.connected(0, lonely));
+        assertEquals(2, uf.components());
+    }
+
+    @Test
+    public void testRandomAgainstUnionFind() {
+        Random random = new Random();
+        int n = 1000;
+        UnionFind expected = new UnionFind(n);
+        GrowableUnionFind uf = new GrowableUnionFind();
+        for (int i = 0; i < n; i++) {
+            uf.makeSet();
+        }
+        for (int e = 0; e < n; e++) {
+            int i = random.nextInt(n), j = random.nextInt(n);
+            expected.unify(i, j);
+            uf.unify(i, j);
+            assertEquals(expected.components(), uf.components());
+            assertEquals(expected.componentSize(i), uf.componentSize(i));
+            assertTrue(uf.connected(i, j));
+        }
+    }
+}
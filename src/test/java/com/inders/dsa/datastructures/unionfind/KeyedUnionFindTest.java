@@ -0,0 +1,59 @@
+package com.inders.dsa.datastructures.unionfind;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KeyedUnionFindTest {
+
+    @Test
+    public void testAdd() {
+        KeyedUnionFind<String> uf = new KeyedUnionFind<>();
+        assertTrue(uf.add("a"));
+        assertFalse(uf.add("a"));
+        assertTrue(uf.contains("a"));
+        assertFalse(uf.contains("b"));
+        assertEquals(1, uf.size());
+        assertEquals(0, uf.indexOf("a"));
+        assertEquals(1, uf.indexOf("b"));
+        assertEquals(2, uf.size());
+        assertThrows(IllegalArgumentException.class, () -> uf.add(null));
+    }
+
+    @Test
+    public void testUnify() {
+        KeyedUnionFind<String> uf = new KeyedUnionFind<>();
+        uf.unify("host-1", "host-2");
+        uf.unify("host-3", "host-4");
+        assertEquals(4, uf.size());
+        assertEquals(2, uf.components());
+        assertTrue(uf.connected("host-2", "host-1"));
+        assertFalse(uf.connected("host-1", "host-3"));
+        assertEquals(2, uf.componentSize("host-4"));
+
+        uf.unify("host-2", "host-4");
+        assertEquals(1, uf.components());
+        assertTrue(uf.connected("host-1", "host-3"));
+        assertEquals(4, uf.componentSize("host-1"));
+
+        assertEquals(0, uf.componentSize("unknown"));
+        assertTrue(uf.connected("unknown", "unknown"));
+        assertFalse(uf.connected("unknown", "host-1"));
+        assertEquals(4, uf.size());
+    }
+
+    @Test
+    public void testManyKeys() {
+        KeyedUnionFind<Long> uf = new KeyedUnionFind<>();
+        int n = 10000;
+        for (long i = 0; i < n; i++) {
+            uf.unify(i * 1_000_003L, (i % 10) * 1_000_003L);
+        }
+        assertEquals(n, uf.size());
+        assertEquals(10, uf.components());
+        assertEquals(n / 10, uf.componentSize(7 * 1_000_003L));
+    }
+}
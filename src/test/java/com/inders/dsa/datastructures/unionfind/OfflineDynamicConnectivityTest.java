@@ -0,0 +1,90 @@
+package com.inders.dsa.datastructures.unionfind;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OfflineDynamicConnectivityTest {
+
+    @Test
+    public void testSimple() {
+        OfflineDynamicConnectivity dc = new OfflineDynamicConnectivity(4);
+        dc.addEdge(0, 1);
+        dc.addEdge(1, 2);
+        int q0 = dc.queryConnected(0, 2);
+        int q1 = dc.queryComponents();
+        dc.removeEdge(2, 1);
+        int q2 = dc.queryConnected(0, 2);
+        int q3 = dc.queryConnected(1, 0);
+        int q4 = dc.queryComponents();
+
+        int[] answers = dc.solve();
+        assertEquals(1, answers[q0]);
+        assertEquals(2, answers[q1]);
+        assertEquals(0, answers[q2]);
+        assertEquals(1, answers[q3]);
+        assertEquals(3, answers[q4]);
+    }
+
+    @Test
+    public void testParallelEdges() {
+        OfflineDynamicConnectivity dc = new OfflineDynamicConnectivity(2);
+        dc.addEdge(0, 1);
+        dc.addEdge(1, 0);
+        dc.removeEdge(0, 1);
+        dc.queryConnected(0, 1);
+        dc.removeEdge(0, 1);
+        dc.queryConnected(0, 1);
+        assertArrayEquals(new int[] {1, 0}, dc.solve());
+        assertThrows(IllegalArgumentException.class, () -> dc.removeEdge(0, 1));
+    }
+
+    @Test
+    public void testRandomAgainstRebuild() {
+        Random random = new Random();
+        for (int loop = 0; loop < 20; loop++) {
+            int n = 2 + random.nextInt(30);
+            OfflineDynamicConnectivity dc = new OfflineDynamicConnectivity(n);
+            List<int[]> alive = new ArrayList<>();
+            List<Integer> expected = new ArrayList<>();
+
+            for (int op = 0; op < 300; op++) {
+                double r = random.nextDouble();
+                if (r < 0.4) {
+                    int u = random.nextInt(n), v = random.nextInt(n);
+                    dc.addEdge(u, v);
+                    alive.add(new int[] {u, v});
+                } else if (r < 0.6 && !alive.isEmpty()) {
+                    int[] edge = alive.remove(random.nextInt(alive.size()));
+                    dc.removeEdge(edge[0], edge[1]);
+                } else {
+                    // answer the query by rebuilding a union find from the alive edges
+                    UnionFind uf = new UnionFind(n);
+                    for (int[] edge : alive) {
+                        uf.unify(edge[0], edge[1]);
+                    }
+                    if (r < 0.8) {
+                        int u = random.nextInt(n), v = random.nextInt(n);
+                        assertEquals(expected.size(), dc.queryConnected(u, v));
+                        expected.add(uf.connected(u, v) ? 1 : 0);
+                    } else {
+                        assertEquals(expected.size(), dc.queryComponents());
+                        expected.add(uf.components());
+                    }
+                }
+            }
+
+            int[] answers = dc.solve();
+            assertEquals(expected.size(), answers.length);
+            for (int i = 0; i < answers.length; i++) {
+                assertEquals(expected.get(i), answers[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.inders.dsa.datastructures.unionfind;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RollbackUnionFindTest {
+
+    @Test
+    public void testUnifyAndUndo() {
+        RollbackUnionFind uf = new RollbackUnionFind(5);
+        assertTrue(uf.unify(0, 1));
+        assertFalse(uf.unify(1, 0));
+        assertTrue(uf.unify(2, 3));
+        assertTrue(uf.unify(1, 3));
+        assertEquals(2, uf.components());
+        assertEquals(4, uf.componentSize(0));
+
+        assertTrue(uf.undo());
+        assertEquals(3, uf.components());
+        assertFalse(uf.connected(0, 2));
+        assertEquals(2, uf.componentSize(0));
+        assertEquals(2, uf.componentSize(3));
+
+        assertTrue(uf.undo());
+        assertTrue(uf.undo());
+        assertFalse(uf.undo());
+        assertEquals(5, uf.components());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(1, uf.componentSize(i));
+        }
+    }
+
+    @Test
+    public void testSnapshotAndRollback() {
+        RollbackUnionFind uf = new RollbackUnionFind(6);
+        uf.unify(0, 1);
+        int snapshot = uf.snapshot();
+        uf.unify(2, 3);
+        uf.unify(1, 2);
+        uf.unify(4, 5);
+        assertEquals(2, uf.components());
+        assertTrue(uf.connected(0, 3));
+
+        uf.rollback(snapshot);
+        assertEquals(5, uf.components());
+        assertTrue(uf.connected(0, 1));
+        assertFalse(uf.connected(0, 3));
+        assertFalse(uf.connected(4, 5));
+        assertThrows(IllegalArgumentException.class, () -> uf.rollback(snapshot + 1));
+    }
+
+    @Test
+    public void testRandomRollbackRestoresState() {
+        Random random = new Random();
+        int n = 200;
+        RollbackUnionFind uf = new RollbackUnionFind(n);
+        for (int loop = 0; loop < 100; loop++) {
+            int snapshot = uf.snapshot();
+            int components = uf.components();
+            int[] roots = new int[n], sizes = new int[n];
+            for (int i = 0; i < n; i++) {
+                roots[i] = uf.find(i);
+                sizes[i] = uf.componentSize(i);
+            }
+
+            for (int e = 0; e < 50; e++) {
+                uf.unify(random.nextInt(n), random.nextInt(n));
+            }
+            uf.rollback(snapshot);
+
+            assertEquals(components, uf.components());
+            for (int i = 0; i < n; i++) {
+                assertEquals(roots[i], uf.find(i));
+                assertEquals(sizes[i], uf.componentSize(i));
+            }
+            // keep a few unions so the next round starts from a different state
+            uf.unify(random.nextInt(n), random.nextInt(n));
+        }
+    }
+
+    @ParameterizedTest(name = "Size: {0}")
+    @ValueSource(ints = {-1, -3463, 0})
+    public void testBadUnionFindCreation(int size) {
+        assertThrows(IllegalArgumentException.class, () -> new RollbackUnionFind(size));
+    }
+}
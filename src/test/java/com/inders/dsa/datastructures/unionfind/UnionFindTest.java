@@ -4,6 +4,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -235,4 +238,55 @@ public class UnionFindTest {
     public void testBadUnionFindCreation(int size) {
         assertThrows(IllegalArgumentException.class, () -> new UnionFind(size));
     }
+
+    @Test
+    public void testUnifyAllMismatchedArrays() {
+        UnionFind uf = new UnionFind(5);
+        assertThrows(IllegalArgumentException.class, () -> uf.unifyAll(new int[2], new int[3]));
+        assertThrows(IllegalArgumentException.class, () -> uf.unifyAllParallel(new int[2], new int[3]));
+    }
+
+    @Test
+    public void testComponentLabels() {
+        UnionFind uf = new UnionFind(6);
+        uf.unify(1, 4);
+        uf.unify(5, 2);
+        uf.unify(4, 5);
+        assertArrayEquals(new int[]{0, 1, 1, 2, 1, 1}, uf.componentLabels());
+    }
+
+    // small and large batches, the large ones go through the reordering and
+    // the parallel forests
+    @ParameterizedTest(name = "Edges: {0}")
+    @ValueSource(ints = {0, 100, 5000, 300000})
+    public void testBatchUnifyAgainstUnify(int m) {
+        Random random = new Random();
+        int n = 20000;
+        int[] from = new int[m], to = new int[m];
+        for (int k = 0; k < m; k++) {
+            from[k] = random.nextInt(n);
+            to[k] = random.nextInt(n);
+        }
+
+        UnionFind expected = new UnionFind(n);
+        for (int k = 0; k < m; k++) {
+            expected.unify(from[k], to[k]);
+        }
+        UnionFind batch = new UnionFind(n);
+        batch.unifyAll(from, to);
+        UnionFind parallel = new UnionFind(n);
+        parallel.unifyAllParallel(from, to);
+
+        assertEquals(expected.components(), batch.components());
+        assertEquals(expected.components(), parallel.components());
+
+        int[] labels = expected.componentLabels();
+        assertArrayEquals(labels, batch.componentLabels());
+        assertArrayEquals(labels, parallel.componentLabels());
+        for (int i = 0; i < n; i++) {
+            assertTrue(labels[i] < expected.components());
+            assertEquals(expected.componentSize(i), batch.componentSize(i));
+            assertEquals(expected.componentSize(i), parallel.componentSize(i));
+        }
+    }
 }
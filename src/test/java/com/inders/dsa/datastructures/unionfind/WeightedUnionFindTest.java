@@ -0,0 +1,74 @@
+package com.inders.dsa.datastructures.unionfind;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WeightedUnionFindTest {
+
+    @Test
+    public void testDiff() {
+        WeightedUnionFind uf = new WeightedUnionFind(5);
+        assertTrue(uf.unify(0, 1, 3)); // v0 - v1 = 3
+        assertTrue(uf.unify(2, 1, -4)); // v2 - v1 = -4
+        assertEquals(3, uf.diff(0, 1));
+        assertEquals(-3, uf.diff(1, 0));
+        assertEquals(7, uf.diff(0, 2));
+        assertEquals(0, uf.diff(2, 2));
+        assertEquals(3, uf.componentSize(1));
+        assertEquals(3, uf.components());
+        assertThrows(IllegalArgumentException.class, () -> uf.diff(0, 3));
+    }
+
+    @Test
+    public void testContradiction() {
+        WeightedUnionFind uf = new WeightedUnionFind(4);
+        assertTrue(uf.unify(0, 1, 1));
+        assertTrue(uf.unify(1, 2, 1));
+        assertTrue(uf.unify(0, 2, 2));
+        assertFalse(uf.unify(0, 2, 3));
+        assertFalse(uf.unify(2, 0, 2));
+        assertEquals(2, uf.diff(0, 2));
+        assertEquals(2, uf.components());
+    }
+
+    // draw hidden values, feed the true differences and compare every answer
+    @Test
+    public void testRandomAgainstHiddenValues() {
+        Random random = new Random();
+        int n = 500;
+        long[] values = new long[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = random.nextLong() >> 16;
+        }
+
+        WeightedUnionFind uf = new WeightedUnionFind(n);
+        UnionFind expected = new UnionFind(n);
+        for (int k = 0; k < 3000; k++) {
+            int i = random.nextInt(n), j = random.nextInt(n);
+            if (random.nextBoolean()) {
+                assertTrue(uf.unify(i, j, values[i] - values[j]));
+                expected.unify(i, j);
+            } else if (expected.connected(i, j)) {
+                assertEquals(values[i] - values[j], uf.diff(i, j));
+                if (i != j) {
+                    assertFalse(uf.unify(i, j, values[i] - values[j] + 1));
+                }
+            } else {
+                assertFalse(uf.connected(i, j));
+            }
+            assertEquals(expected.components(), uf.components());
+            assertEquals(expected.componentSize(i), uf.componentSize(i));
+        }
+    }
+
+    @Test
+    public void testBadUnionFindCreation() {
+        assertThrows(IllegalArgumentException.class, () -> new WeightedUnionFind(0));
+    }
+}